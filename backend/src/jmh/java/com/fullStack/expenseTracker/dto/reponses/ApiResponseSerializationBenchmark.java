@@ -0,0 +1,57 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+
+/**
+ * JSON encoding of a transaction list response, with an ObjectMapper configured the way Spring Boot builds it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "500"})
+    int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ApiResponseDto<PageResponseDto<Map<String, List<TransactionResponseDto>>>> response;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        Map<String, List<TransactionResponseDto>> byDay = new LinkedHashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            LocalDate date = today.minusDays(i / 3);
+            byDay.computeIfAbsent(date.toString(), key -> new ArrayList<>()).add(new TransactionResponseDto(
+                    (long) i, 1, "Food", 1, "Lunch " + i, 10 + i % 50, date, "bench@example.com"));
+        }
+        response = new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK,
+                new PageResponseDto<>(byDay, 10, 10L * pageSize));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
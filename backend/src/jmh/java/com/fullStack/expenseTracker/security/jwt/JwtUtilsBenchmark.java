@@ -0,0 +1,53 @@
+package com.fullStack.expenseTracker.security.jwt;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token checks done by the authentication filter on every request that misses the authentication cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilsBenchmark {
+
+    private final JwtUtils jwtUtils = new JwtUtils();
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = "benchmark-secret-benchmark-secret-0123456789".getBytes();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", Base64.getEncoder().encodeToString(secret));
+        token = Jwts.builder()
+                .setSubject("bench@example.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(secret), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtToken() {
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+}
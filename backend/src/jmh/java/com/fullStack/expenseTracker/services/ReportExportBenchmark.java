@@ -0,0 +1,68 @@
+package com.fullStack.expenseTracker.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+
+/**
+ * PDF and Excel rendering of an export, fed from an in-memory stream so only the writers are measured.
+ * The output is discarded; one invocation at 100k rows takes seconds, hence single-shot timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ReportExportBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private final ReportExportService reportExportService = new ReportExportService();
+
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        // Same values as the application.properties defaults
+        ReflectionTestUtils.setField(reportExportService, "excelRowWindow", 100);
+        ReflectionTestUtils.setField(reportExportService, "pdfFlushRows", 500);
+        category = new Category(1, "Groceries", new TransactionType(1, ETransactionType.TYPE_EXPENSE), true);
+    }
+
+    @Benchmark
+    public void writePdf() throws IOException {
+        reportExportService.writePdf("Transactions", transactions(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void writeExcel() throws IOException {
+        reportExportService.writeExcel("Transactions", transactions(), OutputStream.nullOutputStream());
+    }
+
+    private Stream<Transaction> transactions() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        return IntStream.range(0, rows).mapToObj(i ->
+                new Transaction(null, category, "Weekly shop at the market " + i, 12.5 + i % 300, start.plusDays(i % 365)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+
+/**
+ * Due label of a saved plan, computed once per listed plan; covers each branch of the label logic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DueInformationBenchmark {
+
+    private final SavedTransactionServiceImpl savedTransactionService = new SavedTransactionServiceImpl();
+
+    private final LocalDate today = LocalDate.now();
+
+    @Benchmark
+    public void dueInformation(Blackhole blackhole) {
+        blackhole.consume(savedTransactionService.getDueInformation(today, ETransactionFrequency.DAILY));
+        blackhole.consume(savedTransactionService.getDueInformation(today.plusDays(2), ETransactionFrequency.WEEKLY));
+        blackhole.consume(savedTransactionService.getDueInformation(today.minusMonths(3), ETransactionFrequency.MONTHLY));
+        blackhole.consume(savedTransactionService.getDueInformation(today.minusDays(40), ETransactionFrequency.DAILY));
+        blackhole.consume(savedTransactionService.getDueInformation(today.plusDays(20), ETransactionFrequency.YEARLY));
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+
+/**
+ * Per-request work of the transaction list endpoints once the rows are loaded: entity to DTO mapping
+ * and grouping one page by day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionFeedBenchmark {
+
+    @Param({"20", "500"})
+    int pageSize;
+
+    private final TransactionServiceImpl transactionService = new TransactionServiceImpl();
+
+    private List<Transaction> transactions;
+
+    private List<TransactionResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench@example.com");
+        Category food = new Category(1, "Food", new TransactionType(1, ETransactionType.TYPE_EXPENSE), true);
+
+        transactions = new ArrayList<>(pageSize);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < pageSize; i++) {
+            // Roughly three rows a day, newest first, as the feed query returns them
+            Transaction transaction = new Transaction(user, food, "Lunch " + i, 10 + i % 50, today.minusDays(i / 3));
+            transaction.setTransactionId((long) pageSize - i);
+            transactions.add(transaction);
+        }
+        page = mapAll();
+    }
+
+    @Benchmark
+    public List<TransactionResponseDto> mapAll() {
+        List<TransactionResponseDto> dtos = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            dtos.add(transactionService.transactionToTransactionResponseDto(transaction));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public Map<String, List<TransactionResponseDto>> groupByDate() {
+        return transactionService.groupTransactionsByDate(page);
+    }
+}
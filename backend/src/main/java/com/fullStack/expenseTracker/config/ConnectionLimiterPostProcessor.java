@@ -0,0 +1,65 @@
+package com.fullStack.expenseTracker.config;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts a {@link ConnectionLimitingDataSource} in front of every Hikari-backed DataSource. Unless
+ * configured, the limit and the wait are taken from the pool's own maximum size and connection timeout.
+ */
+@Slf4j
+public class ConnectionLimiterPostProcessor implements BeanPostProcessor, MeterBinder {
+
+    private final int permits;
+
+    private final long timeoutMs;
+
+    private final Map<String, ConnectionLimitingDataSource> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param permits   concurrent connections allowed, or 0 for the pool's maximum size
+     * @param timeoutMs longest wait for a permit, or 0 for the pool's connection timeout
+     */
+    public ConnectionLimiterPostProcessor(int permits, long timeoutMs) {
+        this.permits = permits;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        HikariDataSource pool;
+        try {
+            if (dataSource.isWrapperFor(ConnectionLimitingDataSource.class) || !dataSource.isWrapperFor(HikariDataSource.class)) {
+                return bean;
+            }
+            pool = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return bean;
+        }
+        int limit = permits > 0 ? permits : pool.getMaximumPoolSize();
+        long wait = timeoutMs > 0 ? timeoutMs : pool.getConnectionTimeout();
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(dataSource, limit, wait);
+        limiters.put(beanName, limiter);
+        log.info("DataSource '{}' limited to {} concurrent connections, waiting at most {}ms", beanName, limit, wait);
+        return limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((name, limiter) -> limiter.bindTo(registry, name));
+    }
+}
@@ -0,0 +1,137 @@
+package com.fullStack.expenseTracker.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets at most {@code permits} callers hold a connection at once and queues the rest, first come first
+ * served, on a semaphore. With virtual threads thousands of requests can reach the pool together; parking
+ * them here is cheap, keeps Hikari's hand-off from churning, and fails with the same exception type as a
+ * Hikari timeout once {@code timeoutMs} has passed. The permit is returned when the connection is closed.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private static final Class<?>[] CONNECTION_INTERFACE = {Connection.class};
+
+    private final Semaphore permits;
+
+    private final int maxPermits;
+
+    private final long timeoutMs;
+
+    private final LongAdder timeouts = new LongAdder();
+
+    public ConnectionLimitingDataSource(DataSource target, int permits, long timeoutMs) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    void bindTo(MeterRegistry registry, String name) {
+        Gauge.builder("db.connection.limiter.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a database connection permit")
+                .tag("datasource", name)
+                .register(registry);
+        Gauge.builder("db.connection.limiter.active", this, limiter -> limiter.maxPermits - limiter.permits.availablePermits())
+                .description("Connection permits in use")
+                .tag("datasource", name)
+                .register(registry);
+        FunctionCounter.builder("db.connection.limiter.timeouts", timeouts, LongAdder::sum)
+                .description("Callers that gave up waiting for a connection permit")
+                .tag("datasource", name)
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("No database connection permit became free within "
+                        + timeoutMs + "ms (" + maxPermits + " permits, " + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), CONNECTION_INTERFACE,
+                new PermitReleasingHandler(connection, permits));
+    }
+
+    private static final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private final Semaphore permits;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target, Semaphore permits) {
+            this.target = target;
+            this.permits = permits;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                // Released even if close() throws; the pool has taken the connection back or discarded it
+                if (name.equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullStack.expenseTracker.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.fullStack.expenseTracker.enums.ERole;
+
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Notes the controller method and the caller's role on the request while the security context is
+ * still populated; {@link RoleAwareServerRequestObservationConvention} turns them into tags on
+ * {@code http.server.requests} once the response is done. Tag values are built once per handler and
+ * reused, so a request only stores two references.
+ */
+public class ControllerObservationInterceptor implements HandlerInterceptor {
+
+    static final String HANDLER_ATTRIBUTE = ControllerObservationInterceptor.class.getName() + ".handler";
+
+    static final String ROLE_ATTRIBUTE = ControllerObservationInterceptor.class.getName() + ".role";
+
+    static final KeyValue ROLE_ADMIN = KeyValue.of("role", ERole.ROLE_ADMIN.name());
+
+    static final KeyValue ROLE_USER = KeyValue.of("role", ERole.ROLE_USER.name());
+
+    static final KeyValue ROLE_NONE = KeyValue.of("role", "none");
+
+    private final Map<Method, KeyValue> handlerTags = new ConcurrentHashMap<>();
+
+    private final Function<Method, KeyValue> newHandlerTag = method ->
+            KeyValue.of("handler", method.getDeclaringClass().getSimpleName() + "." + method.getName());
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(HANDLER_ATTRIBUTE, handlerTags.computeIfAbsent(handlerMethod.getMethod(), newHandlerTag));
+            request.setAttribute(ROLE_ATTRIBUTE, role(SecurityContextHolder.getContext().getAuthentication()));
+        }
+        return true;
+    }
+
+    private static KeyValue role(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ROLE_NONE;
+        }
+        KeyValue role = ROLE_NONE;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (ERole.ROLE_ADMIN.name().equals(name)) {
+                return ROLE_ADMIN;
+            }
+            if (ERole.ROLE_USER.name().equals(name)) {
+                role = ROLE_USER;
+            }
+        }
+        return role;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullStack.expenseTracker.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Application meters on top of what Actuator records by itself (HTTP server requests, Hikari pool,
+ * JVM). Caches, alerts and exports register their own meters by implementing {@code MeterBinder}.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerObservationInterceptor());
+    }
+
+    @Bean
+    public RoleAwareServerRequestObservationConvention serverRequestObservationConvention() {
+        return new RoleAwareServerRequestObservationConvention();
+    }
+
+    // Static so registering the post-processor does not pull this configuration in early
+    @Bean
+    public static RepositoryMetricsPostProcessor transactionRepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(TransactionRepository.class, meterRegistry);
+    }
+}
@@ -0,0 +1,140 @@
+package com.fullStack.expenseTracker.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Wraps the given repository interface with a timer per query method ({@code repository.query}, tagged
+ * with repository, method and outcome) and a summary of the rows each call returned
+ * ({@code repository.query.rows}). Meters are looked up once per method and cached, so a call costs two
+ * clock reads and two recordings. Streamed results are timed until the stream is handed out and have
+ * no row count.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final Class<?> repositoryType;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(Class<?> repositoryType, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repositoryType = repositoryType;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!repositoryType.isInstance(bean)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.addInterface(repositoryType);
+        proxyFactory.addAdvice(new QueryMetricsInterceptor(repositoryType.getSimpleName(), meterRegistry));
+        return proxyFactory.getProxy(repositoryType.getClassLoader());
+    }
+
+    private static final class QueryMetricsInterceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private final Map<Method, QueryMeters> metersByMethod = new ConcurrentHashMap<>();
+
+        private final Function<Method, QueryMeters> newMeters = this::newMeters;
+
+        QueryMetricsInterceptor(String repository, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.repository = repository;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            QueryMeters meters = metersByMethod.computeIfAbsent(method, newMeters);
+            if (meters == null) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable e) {
+                meters.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                meters.rows.record(rows);
+            }
+            return result;
+        }
+
+        // null (and retried on the next call) while no registry exists, e.g. in sliced tests
+        private QueryMeters newMeters(Method method) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            String name = method.getName();
+            return new QueryMeters(
+                    timer(registry, name, "success"),
+                    timer(registry, name, "error"),
+                    DistributionSummary.builder("repository.query.rows")
+                            .description("Rows returned by one repository call")
+                            .tags("repository", repository, "method", name)
+                            .register(registry));
+        }
+
+        private Timer timer(MeterRegistry registry, String method, String outcome) {
+            return Timer.builder("repository.query")
+                    .description("Repository call latency, including mapping the result")
+                    .tags("repository", repository, "method", method, "outcome", outcome)
+                    .register(registry);
+        }
+
+        // -1 when the size is unknown without consuming the result
+        private static long rowCount(Object result) {
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Slice<?> slice) {
+                return slice.getNumberOfElements();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.isPresent() ? 1 : 0;
+            }
+            if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+                return -1;
+            }
+            return 1;
+        }
+    }
+
+    private record QueryMeters(Timer success, Timer failure, DistributionSummary rows) {
+    }
+}
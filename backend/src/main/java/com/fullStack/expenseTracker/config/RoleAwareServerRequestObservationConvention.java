@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.config;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Adds {@code handler} and {@code role} to the default {@code http.server.requests} tags (method, uri,
+ * status, outcome, exception). Requests that never reach a controller, e.g. rejected by the security
+ * filters, are tagged {@code none} so every series carries the same tag keys.
+ */
+public class RoleAwareServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final KeyValue HANDLER_NONE = KeyValue.of("handler", "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(ControllerObservationInterceptor.HANDLER_ATTRIBUTE);
+        Object role = context.getCarrier().getAttribute(ControllerObservationInterceptor.ROLE_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context).and(
+                handler instanceof KeyValue handlerTag ? handlerTag : HANDLER_NONE,
+                role instanceof KeyValue roleTag ? roleTag : ControllerObservationInterceptor.ROLE_NONE);
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullStack.expenseTracker.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fullStack.expenseTracker.services.SqlStatisticsService;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Routes every JDBC statement through datasource-proxy so SqlStatisticsService can count statements per
+ * request and catch slow queries. Turn it off with {@code app.sql.monitoring.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    // Wraps the DataSource as it is created; the listeners it reports to are resolved later, see LazyListener
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new LazyListener(listeners))
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(SqlStatisticsService sqlStatisticsService) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementBudgetFilter(sqlStatisticsService));
+        // Outside Spring Security, so the principal lookup is part of the request's count
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // The DataSource is built before the listener bean exists; resolve it on the first statement
+    private static final class LazyListener implements QueryExecutionListener {
+
+        private final ObjectProvider<QueryExecutionListener> listeners;
+
+        private volatile QueryExecutionListener delegate;
+
+        LazyListener(ObjectProvider<QueryExecutionListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            QueryExecutionListener listener = delegate;
+            if (listener == null) {
+                listener = listeners.getIfAvailable();
+                if (listener == null) {
+                    return;
+                }
+                delegate = listener;
+            }
+            listener.afterQuery(execInfo, queryInfoList);
+        }
+    }
+}
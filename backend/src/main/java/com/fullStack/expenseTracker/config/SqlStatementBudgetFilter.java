@@ -0,0 +1,39 @@
+package com.fullStack.expenseTracker.config;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fullStack.expenseTracker.services.SqlStatisticsService;
+
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Scopes SQL statement counting to one request, including the lookups done by the security filters.
+ * Streaming export bodies are written on an async thread after this filter returns and are not counted.
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatisticsService sqlStatisticsService;
+
+    public SqlStatementBudgetFilter(SqlStatisticsService sqlStatisticsService) {
+        this.sqlStatisticsService = sqlStatisticsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatisticsService.beginRequest(request.getMethod(), request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Set by ControllerObservationInterceptor once a controller method was chosen
+            Object handler = request.getAttribute(ControllerObservationInterceptor.HANDLER_ATTRIBUTE);
+            sqlStatisticsService.endRequest(handler instanceof KeyValue handlerTag ? handlerTag.getValue() : null);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullStack.expenseTracker.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extras for {@code spring.threads.virtual.enabled=true}, which by itself moves Tomcat, the application
+ * task executor and the scheduler onto virtual threads. Requests are then no longer held back by the
+ * Tomcat pool, so database access is queued in front of Hikari instead, and pinned carriers are reported.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    // Must exist before the DataSource it wraps, so it only takes plain property values
+    @Bean
+    @ConditionalOnExpression("${app.db.connection-limiter.enabled:${spring.threads.virtual.enabled:false}}")
+    public static ConnectionLimiterPostProcessor connectionLimiterPostProcessor(
+            @Value("${app.db.connection-limiter.permits:0}") int permits,
+            @Value("${app.db.connection-limiter.timeout-ms:0}") long timeoutMs) {
+        return new ConnectionLimiterPostProcessor(permits, timeoutMs);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs));
+    }
+}
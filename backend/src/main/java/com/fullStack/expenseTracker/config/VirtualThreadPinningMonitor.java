@@ -0,0 +1,105 @@
+package com.fullStack.expenseTracker.config;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listens for the JDK's jdk.VirtualThreadPinned event, raised when a virtual thread blocks while it cannot
+ * unmount from its carrier (inside a synchronized block or a native frame). Every pin longer than the
+ * threshold is counted and timed; the first pin from each application or library frame is logged with
+ * its stack so the culprit can be replaced.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private final LongAdder pinnedNanos = new LongAdder();
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {}ms", threshold.toMillis());
+    }
+
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("jvm.threads.virtual.pinned", this,
+                        monitor -> monitor.pinnedCount.sum(),
+                        monitor -> monitor.pinnedNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(registry);
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        String culprit = culprit(stackTrace);
+        if (culprit != null && reportedFrames.add(culprit)) {
+            StringBuilder frames = new StringBuilder();
+            stackTrace.getFrames().stream().limit(LOGGED_FRAMES)
+                    .forEach(frame -> frames.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {}ms at {}; later pins from here are only counted{}",
+                    event.getDuration().toMillis(), culprit, frames);
+        }
+    }
+
+    // First frame outside the JDK: the driver or application code that blocked inside a monitor
+    private static String culprit(RecordedStackTrace stackTrace) {
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return null;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -34,4 +34,19 @@ public class BudgetController {
             throws UserServiceLogicException {
         return budgetService.getBudgetByMonth(userId, month, year);
     }
+
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getBudgetStatus(@Param("userId") long userId,
+                                                             @Param("month") int month,
+                                                             @Param("year") int year)
+            throws UserServiceLogicException {
+        return budgetService.getBudgetStatus(userId, month, year);
+    }
+
+    @GetMapping("/ledger/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getLedgerStats() {
+        return budgetService.getLedgerStats();
+    }
 }
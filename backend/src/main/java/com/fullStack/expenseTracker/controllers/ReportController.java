@@ -1,16 +1,25 @@
 package com.fullStack.expenseTracker.controllers;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.EAnalyticsBucket;
+import com.fullStack.expenseTracker.enums.EAnalyticsComparison;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.services.AnalyticsService;
 import com.fullStack.expenseTracker.services.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @CrossOrigin(origins = {"http://localhost:5000"})
 @RestController
 @RequestMapping("/mypockit/report")
@@ -19,6 +28,9 @@ public class ReportController {
     @Autowired
     ReportService reportService;
 
+    @Autowired
+    AnalyticsService analyticsService;
+
 
     @GetMapping("/getTotalIncomeOrExpense")
     @PreAuthorize(("hasRole('ROLE_USER')"))
@@ -52,4 +64,27 @@ public class ReportController {
         return reportService.getMonthlySummaryByUser(email);
     }
 
+    @GetMapping("/analytics")
+    @PreAuthorize(("hasRole('ROLE_USER')"))
+    public ResponseEntity<ApiResponseDto<?>> getAnalytics(@Param("userId") long userId,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                          @RequestParam(required = false) EAnalyticsBucket bucket,
+                                                          @RequestParam(required = false) EAnalyticsComparison comparison)
+            throws TransactionServiceLogicException {
+        return analyticsService.getAnalytics(userId, from, to, bucket, comparison);
+    }
+
+    @GetMapping("/aggregates/verify")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> verifyAggregates() {
+        return reportService.verifyAggregates();
+    }
+
+    @PostMapping("/aggregates/rebuild")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> rebuildAggregates() {
+        return reportService.rebuildAggregates();
+    }
+
 }
@@ -1,20 +1,27 @@
 package com.fullStack.expenseTracker.controllers;
 
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.ExportJobRequestDto;
+import com.fullStack.expenseTracker.exceptions.ExportJobNotFoundException;
+import com.fullStack.expenseTracker.exceptions.ExportServiceLogicException;
 import com.fullStack.expenseTracker.models.Transaction;
-import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.security.ExportScope;
+import com.fullStack.expenseTracker.services.ExportJobService;
 import com.fullStack.expenseTracker.services.ReportExportService;
+import jakarta.validation.Valid;
 import com.fullStack.expenseTracker.specifications.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @RestController
 @RequestMapping("/mypockit/report/export")
@@ -23,52 +30,129 @@ import java.util.List;
 @Slf4j
 public class ReportExportController {
 
-    private final TransactionRepository transactionRepository;
     private final ReportExportService reportExportService;
+    private final ExportJobService exportJobService;
 
     @GetMapping("/pdf")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<byte[]> exportPdf(@RequestParam(required = false) String email,
-                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-                                            @RequestParam(required = false) Integer categoryId,
-                                            @RequestParam(required = false) Double min,
-                                            @RequestParam(required = false) Double max) {
-        try {
-            Specification<Transaction> spec = TransactionSpecification.withFilters(email, from, to, categoryId, min, max);
-            List<Transaction> data = transactionRepository.findAll(spec);
-            byte[] pdf = reportExportService.toPdf("Transactions", data);
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=transactions.pdf")
-                    .header("Content-Type", "application/pdf")
-                    .body(pdf);
-        } catch (Exception e) {
-            log.error("Error exporting PDF: " + e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportPdf(@RequestParam(required = false) String email,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                           @RequestParam(required = false) Integer categoryId,
+                                                           @RequestParam(required = false) Double min,
+                                                           @RequestParam(required = false) Double max) {
+        Specification<Transaction> spec = TransactionSpecification.withFilters(email, from, to, categoryId, min, max);
+        StreamingResponseBody body = out -> {
+            try {
+                reportExportService.exportPdf("Transactions", spec, out);
+            } catch (Exception e) {
+                // Headers are already committed at this point, so the client sees a truncated download
+                log.error("Error exporting PDF: " + e.getMessage(), e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=transactions.pdf")
+                .header("Content-Type", "application/pdf")
+                .body(body);
     }
 
     @GetMapping("/excel")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<byte[]> exportExcel(@RequestParam(required = false) String email,
-                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-                                              @RequestParam(required = false) Integer categoryId,
-                                              @RequestParam(required = false) Double min,
-                                              @RequestParam(required = false) Double max) {
-        try {
-            Specification<Transaction> spec = TransactionSpecification.withFilters(email, from, to, categoryId, min, max);
-            List<Transaction> data = transactionRepository.findAll(spec);
-            byte[] xlsx = reportExportService.toExcel("Transactions", data);
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=transactions.xlsx")
-                    .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(xlsx);
-        } catch (Exception e) {
-            log.error("Error exporting Excel: " + e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportExcel(@RequestParam(required = false) String email,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                             @RequestParam(required = false) Integer categoryId,
+                                                             @RequestParam(required = false) Double min,
+                                                             @RequestParam(required = false) Double max) {
+        Specification<Transaction> spec = TransactionSpecification.withFilters(email, from, to, categoryId, min, max);
+        StreamingResponseBody body = out -> {
+            try {
+                reportExportService.exportExcel("Transactions", spec, out);
+            } catch (Exception e) {
+                log.error("Error exporting Excel: " + e.getMessage(), e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=transactions.xlsx")
+                .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                .body(body);
+    }
+
+    @GetMapping("/csv")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@RequestParam(required = false) String email,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                           @RequestParam(required = false) Integer categoryId,
+                                                           @RequestParam(required = false) Double min,
+                                                           @RequestParam(required = false) Double max,
+                                                           Authentication authentication) {
+        // Bulk formats only export the caller's own rows unless an admin asks for someone else's or everyone's
+        Specification<Transaction> spec = TransactionSpecification.withFilters(ExportScope.emailFor(authentication, email),
+                from, to, categoryId, min, max);
+        StreamingResponseBody body = out -> {
+            try {
+                reportExportService.exportCsv(spec, out);
+            } catch (Exception e) {
+                log.error("Error exporting CSV: " + e.getMessage(), e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=transactions.csv")
+                .header("Content-Type", "text/csv; charset=UTF-8")
+                .body(body);
     }
-}
 
+    @GetMapping("/ndjson")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportNdjson(@RequestParam(required = false) String email,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(required = false) Integer categoryId,
+                                                              @RequestParam(required = false) Double min,
+                                                              @RequestParam(required = false) Double max,
+                                                              Authentication authentication) {
+        Specification<Transaction> spec = TransactionSpecification.withFilters(ExportScope.emailFor(authentication, email),
+                from, to, categoryId, min, max);
+        StreamingResponseBody body = out -> {
+            try {
+                reportExportService.exportNdjson(spec, out);
+            } catch (Exception e) {
+                log.error("Error exporting NDJSON: " + e.getMessage(), e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=transactions.ndjson")
+                .header("Content-Type", "application/x-ndjson")
+                .body(body);
+    }
 
+    @PostMapping("/jobs")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> createExportJob(@RequestBody @Valid ExportJobRequestDto exportJobRequestDto,
+                                                             Authentication authentication)
+            throws ExportServiceLogicException {
+        exportJobRequestDto.setEmail(ExportScope.emailFor(authentication, exportJobRequestDto.getEmail()));
+        return exportJobService.createJob(ExportScope.emailOf(authentication), exportJobRequestDto);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getExportJob(@PathVariable String jobId, Authentication authentication)
+            throws ExportJobNotFoundException {
+        return exportJobService.getJob(ExportScope.emailOf(authentication), jobId);
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(@PathVariable String jobId,
+                                                                   @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                                   Authentication authentication)
+            throws ExportJobNotFoundException, ExportServiceLogicException {
+        return exportJobService.download(ExportScope.emailOf(authentication), jobId, range);
+    }
+}
@@ -5,6 +5,7 @@ import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.services.RecurringTransactionService;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,9 @@ public class SavedTransactionController {
     @Autowired
     private SavedTransactionService savedTransactionService;
 
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
     @PostMapping("/create")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> createSavedTransaction(@RequestBody SavedTransactionRequestDto requestDto)
@@ -57,9 +61,18 @@ public class SavedTransactionController {
 
     @GetMapping("/month")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(@Param("id") long id)
+    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(@Param("id") long id,
+                                                                              @RequestParam(required = false) Integer month,
+                                                                              @RequestParam(required = false) Integer year)
+            throws UserServiceLogicException, UserNotFoundException {
+        return savedTransactionService.getAllTransactionsByUserAndMonth(id, month, year);
+    }
+
+    @GetMapping("/projection")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getCashFlowProjection(@Param("id") long id)
             throws UserServiceLogicException, UserNotFoundException {
-        return savedTransactionService.getAllTransactionsByUserAndMonth(id);
+        return savedTransactionService.getCashFlowProjection(id);
     }
 
     @GetMapping("/")
@@ -74,4 +87,16 @@ public class SavedTransactionController {
             throws TransactionNotFoundException, UserServiceLogicException {
         return savedTransactionService.skipSavedTransaction(id);
     }
+
+    @PostMapping("/scheduler/run")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> runScheduler() throws UserServiceLogicException {
+        return recurringTransactionService.runNow();
+    }
+
+    @GetMapping("/scheduler/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getSchedulerStats() {
+        return recurringTransactionService.getStats();
+    }
 }
@@ -0,0 +1,34 @@
+package com.fullStack.expenseTracker.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.services.SqlStatisticsService;
+
+@CrossOrigin(origins = {"http://localhost:5000"})
+@RestController
+@RequestMapping("/mypockit/admin/sql")
+public class SqlStatisticsController {
+
+    @Autowired
+    private SqlStatisticsService sqlStatisticsService;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getStatistics() {
+        return sqlStatisticsService.getStatistics();
+    }
+
+    @DeleteMapping("/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> resetStatistics() {
+        return sqlStatisticsService.resetStatistics();
+    }
+}
@@ -2,6 +2,7 @@ package com.fullStack.expenseTracker.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,14 +13,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.EImportFormat;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.services.TransactionBatchService;
+import com.fullStack.expenseTracker.services.TransactionImportService;
 import com.fullStack.expenseTracker.services.TransactionService;
 
 import jakarta.validation.Valid;
@@ -32,6 +39,12 @@ public class TransactionController {
     @Autowired
     TransactionService transactionService;
 
+    @Autowired
+    TransactionImportService transactionImportService;
+
+    @Autowired
+    TransactionBatchService transactionBatchService;
+
     @GetMapping("/getAll")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponseDto<?>> getAllTransactions(@Param("pageNumber") int pageNumber,
@@ -48,20 +61,55 @@ public class TransactionController {
         return transactionService.addTransaction(transactionRequestDto);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> importTransactions(@RequestParam("email") String email,
+                                                                @RequestParam("file") MultipartFile file,
+                                                                @RequestParam(value = "format", required = false) EImportFormat format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        return transactionImportService.importTransactions(email, file, format);
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> processBatch(@RequestBody @Valid TransactionBatchRequestDto transactionBatchRequestDto)
+            throws TransactionServiceLogicException {
+
+        return transactionBatchService.processBatch(transactionBatchRequestDto);
+    }
+
     @GetMapping("/getByUser")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(@Param("email") String email,
-                                                                   @Param("pageNumber") int pageNumber,
+                                                                   @RequestParam(defaultValue = "0") int pageNumber,
                                                                    @Param("pageSize") int pageSize,
                                                                    @Param("searchKey") String searchKey,
                                                                    @Param("sortField") String sortField,
                                                                    @Param("sortDirec") String sortDirec,
-                                                                   @Param("transactionType") String transactionType)
+                                                                   @Param("transactionType") String transactionType,
+                                                                   @RequestParam(required = false) String cursor)
             throws UserNotFoundException, TransactionServiceLogicException {
 
+        // Any cursor value, including an empty one for the first page, switches to keyset pagination
+        if (cursor != null) {
+            return transactionService.getTransactionsByUserAfter(email, cursor, pageSize, searchKey, transactionType);
+        }
         return transactionService.getTransactionsByUser(email, pageNumber, pageSize, searchKey, sortField, sortDirec, transactionType);
     }
 
+    // Whole days per page with per-day subtotals; the cursor always points at a day boundary
+    @GetMapping("/feed")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getTransactionFeed(@Param("email") String email,
+                                                                @RequestParam(defaultValue = "7") int days,
+                                                                @Param("searchKey") String searchKey,
+                                                                @Param("transactionType") String transactionType,
+                                                                @RequestParam(required = false) String cursor)
+            throws TransactionServiceLogicException {
+        return transactionService.getTransactionFeed(email, cursor, days, searchKey, transactionType);
+    }
+
     @GetMapping("/getById")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> getTransactionById(@Param("id") @NonNull Long id)
@@ -61,6 +61,12 @@ public class UserController {
         return userService.enableOrDisableUser(userId);
     }
 
+    @GetMapping("/principalCache/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getPrincipalCacheStats() {
+        return userService.getPrincipalCacheStats();
+    }
+
     @DeleteMapping("/delete")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponseDto<?>> deleteUser(@Param("userId") long userId)
@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AggregateDriftReportDto {
+
+    private int checkedBuckets;
+
+    private int driftedBuckets;
+
+    private List<String> samples;
+
+    private boolean rebuilt;
+}
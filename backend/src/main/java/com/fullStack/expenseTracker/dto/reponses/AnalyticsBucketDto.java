@@ -0,0 +1,30 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsBucketDto {
+
+    private LocalDate start;
+
+    private double income;
+
+    private double expense;
+
+    private long count;
+
+    // The bucket at the same position in the comparison period
+    private LocalDate previousStart;
+
+    private double previousIncome;
+
+    private double previousExpense;
+
+    private long previousCount;
+}
@@ -0,0 +1,25 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsCategoryDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private int transactionTypeId;
+
+    private double amount;
+
+    private long count;
+
+    private double previousAmount;
+
+    private long previousCount;
+}
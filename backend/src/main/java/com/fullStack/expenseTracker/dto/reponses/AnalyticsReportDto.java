@@ -0,0 +1,48 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fullStack.expenseTracker.enums.EAnalyticsBucket;
+import com.fullStack.expenseTracker.enums.EAnalyticsComparison;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalyticsReportDto {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private EAnalyticsBucket bucket;
+
+    private EAnalyticsComparison comparison;
+
+    private LocalDate previousFrom;
+
+    private LocalDate previousTo;
+
+    private double income;
+
+    private double expense;
+
+    private long count;
+
+    private double previousIncome;
+
+    private double previousExpense;
+
+    private long previousCount;
+
+    private List<AnalyticsBucketDto> buckets;
+
+    private List<AnalyticsCategoryDto> categories;
+
+    // DataVersionService.userVersion of the user the report was computed at
+    private long dataVersion;
+}
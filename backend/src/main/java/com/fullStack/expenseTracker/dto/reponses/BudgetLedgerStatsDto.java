@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BudgetLedgerStatsDto {
+
+    private long entries;
+
+    private Instant lastReconciledAt;
+
+    private int lastCheckedEntries;
+
+    private int lastDriftedEntries;
+
+    // Sum of the absolute corrections applied in the last run
+    private long lastDriftCents;
+
+    private long totalCorrections;
+}
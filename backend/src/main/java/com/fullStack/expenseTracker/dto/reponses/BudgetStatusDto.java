@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BudgetStatusDto {
+
+    private double budget;
+
+    private double spent;
+
+    private double remaining;
+
+    // Share of the budget spent so far, 0 when no budget is set
+    private double percentUsed;
+}
@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsDto {
+
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private double hitRate;
+
+    private long evictionCount;
+
+    private long invalidationCount;
+
+}
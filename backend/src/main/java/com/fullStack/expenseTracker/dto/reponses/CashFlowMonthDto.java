@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CashFlowMonthDto {
+
+    private int year;
+
+    private int month;
+
+    // Saved plans still to come in the month, by transaction type
+    private double income;
+
+    private double expense;
+
+    private double net;
+
+    private long occurrences;
+}
@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    T data;
+
+    String nextCursor;
+
+    boolean hasMore;
+
+}
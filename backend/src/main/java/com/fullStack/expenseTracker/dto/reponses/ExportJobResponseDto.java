@@ -0,0 +1,33 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.Instant;
+
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.EExportJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportJobResponseDto {
+
+    private String jobId;
+
+    private EExportFormat format;
+
+    private EExportJobStatus status;
+
+    private Instant createdAt;
+
+    private Instant completedAt;
+
+    private long sizeBytes;
+
+    private String error;
+
+    private String downloadUrl;
+
+}
@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDto {
+
+    // 1-based position of the record in the upload, not counting a CSV header
+    private long row;
+
+    private String message;
+}
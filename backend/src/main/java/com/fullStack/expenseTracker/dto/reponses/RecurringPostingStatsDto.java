@@ -0,0 +1,33 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecurringPostingStatsDto {
+
+    // Auto-post plans due today or earlier that have not been posted yet
+    private long backlog;
+
+    private LocalDate oldestDueDate;
+
+    // Days between the oldest unposted occurrence and today
+    private long lagDays;
+
+    private Instant lastRunAt;
+
+    private int lastRunPlans;
+
+    private int lastRunTransactions;
+
+    // Plans that could not be posted (deleted category, invalid rule) and had auto-post switched off
+    private int lastRunSuspendedPlans;
+
+    private long totalTransactions;
+}
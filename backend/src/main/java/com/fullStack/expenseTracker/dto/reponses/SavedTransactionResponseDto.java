@@ -23,5 +23,9 @@ public class SavedTransactionResponseDto {
     @Enumerated(EnumType.STRING)
     private ETransactionFrequency frequency;
 
+    private String recurrenceRule;
+
+    private boolean autoPost;
+
     private String dueInformation;
 }
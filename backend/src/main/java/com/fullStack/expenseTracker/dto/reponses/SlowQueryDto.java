@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlowQueryDto {
+
+    private Instant executedAt;
+
+    // null when the query did not run inside an HTTP request (schedulers, exports, startup)
+    private String endpoint;
+
+    private long elapsedMs;
+
+    private String sql;
+
+    private String parameters;
+}
@@ -0,0 +1,32 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SqlEndpointStatsDto {
+
+    // Controller method, e.g. UserController.getAllUsers
+    private String endpoint;
+
+    private long requests;
+
+    private long statements;
+
+    private double averageStatements;
+
+    private int maxStatements;
+
+    // Requests that ran more statements than the budget allows
+    private long overBudgetRequests;
+
+    private double totalQueryTimeMs;
+
+    // The statement repeated most often in the worst request seen so far, usually the N+1 culprit
+    private String mostRepeatedStatement;
+
+    private int mostRepeatedCount;
+}
@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SqlStatisticsDto {
+
+    private Instant since;
+
+    private int statementBudget;
+
+    private long slowQueryThresholdMs;
+
+    // Worst offenders first: most statements per request on average
+    private List<SqlEndpointStatsDto> endpoints;
+
+    // Most recent first
+    private List<SlowQueryDto> slowQueries;
+}
@@ -0,0 +1,25 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionBatchAction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionBatchItemResultDto {
+
+    // Position of the operation in the request
+    private int index;
+
+    private ETransactionBatchAction action;
+
+    private Long transactionId;
+
+    private ApiResponseStatus status;
+
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionBatchResponseDto {
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<TransactionBatchItemResultDto> results;
+}
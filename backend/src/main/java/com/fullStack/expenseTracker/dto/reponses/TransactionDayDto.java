@@ -0,0 +1,27 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionDayDto {
+
+    private LocalDate date;
+
+    // "Today", "Yesterday" or the ISO date
+    private String label;
+
+    private double income;
+
+    private double expense;
+
+    private long count;
+
+    private List<TransactionResponseDto> transactions;
+}
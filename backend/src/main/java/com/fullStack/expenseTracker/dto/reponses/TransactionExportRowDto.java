@@ -0,0 +1,28 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.time.LocalDate;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionExportRowDto {
+
+    private Long transactionId;
+
+    private LocalDate date;
+
+    private String categoryName;
+
+    private ETransactionType transactionType;
+
+    private String description;
+
+    private double amount;
+
+}
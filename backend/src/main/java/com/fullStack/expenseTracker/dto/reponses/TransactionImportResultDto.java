@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import java.util.List;
+
+import com.fullStack.expenseTracker.enums.EImportFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionImportResultDto {
+
+    private EImportFormat format;
+
+    private long rowsRead;
+
+    private long imported;
+
+    private long rejected;
+
+    // At most app.import.max-reported-errors entries; rejected holds the full count
+    private List<ImportRowErrorDto> errors;
+}
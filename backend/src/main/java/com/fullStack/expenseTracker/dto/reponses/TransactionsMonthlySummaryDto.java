@@ -8,6 +8,8 @@ import lombok.Data;
 @AllArgsConstructor
 public class TransactionsMonthlySummaryDto {
 
+    private int year;
+
     private int month;
 
     private double total_expense;
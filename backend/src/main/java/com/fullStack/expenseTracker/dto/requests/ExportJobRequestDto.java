@@ -0,0 +1,32 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import java.time.LocalDate;
+
+import com.fullStack.expenseTracker.enums.EExportFormat;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportJobRequestDto {
+
+    @NotNull(message = "Export format is required!")
+    private EExportFormat format;
+
+    private String email;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private Integer categoryId;
+
+    private Double min;
+
+    private Double max;
+
+}
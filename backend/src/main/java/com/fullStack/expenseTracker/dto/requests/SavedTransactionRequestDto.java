@@ -22,6 +22,10 @@ public class SavedTransactionRequestDto {
     @Enumerated(EnumType.STRING)
     private ETransactionFrequency frequency;
 
+    private String recurrenceRule;
+
     private LocalDate upcomingDate;
 
+    private boolean autoPost;
+
 }
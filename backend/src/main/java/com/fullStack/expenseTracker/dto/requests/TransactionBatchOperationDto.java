@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import com.fullStack.expenseTracker.enums.ETransactionBatchAction;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionBatchOperationDto {
+
+    @NotNull(message = "Action is required!")
+    private ETransactionBatchAction action;
+
+    // Required for UPDATE and DELETE
+    private Long transactionId;
+
+    // Required for CREATE and UPDATE; validated per operation so one bad item does not reject the batch
+    private TransactionRequestDto transaction;
+
+}
@@ -0,0 +1,18 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionBatchRequestDto {
+
+    @NotEmpty(message = "At least one operation is required!")
+    private List<TransactionBatchOperationDto> operations;
+
+}
@@ -0,0 +1,42 @@
+package com.fullStack.expenseTracker.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum EAnalyticsBucket {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS),
+    YEAR(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    EAnalyticsBucket(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * First day of the bucket holding {@code date}; weeks start on Monday.
+     */
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * Position of the bucket holding {@code date}, counted from the bucket holding {@code first}.
+     */
+    public int indexOf(LocalDate first, LocalDate date) {
+        return (int) unit.between(start(first), start(date));
+    }
+}
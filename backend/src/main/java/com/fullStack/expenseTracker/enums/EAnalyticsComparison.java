@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.enums;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum EAnalyticsComparison {
+    // The same number of days immediately before the range
+    PREVIOUS_PERIOD,
+    // The same calendar dates one year earlier
+    PREVIOUS_YEAR;
+
+    public LocalDate[] rangeFor(LocalDate from, LocalDate to) {
+        if (this == PREVIOUS_YEAR) {
+            return new LocalDate[]{from.minusYears(1), to.minusYears(1)};
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        return new LocalDate[]{from.minusDays(days), from.minusDays(1)};
+    }
+}
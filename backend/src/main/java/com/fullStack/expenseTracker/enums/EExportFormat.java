@@ -0,0 +1,25 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum EExportFormat {
+    PDF("pdf", "application/pdf"),
+    EXCEL("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+
+    private final String contentType;
+
+    EExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
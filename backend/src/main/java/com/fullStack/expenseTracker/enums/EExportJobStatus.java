@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum EExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,30 @@
+package com.fullStack.expenseTracker.enums;
+
+import java.util.Locale;
+
+public enum EImportFormat {
+    CSV("csv"),
+    OFX("ofx", "qfx"),
+    NDJSON("ndjson", "jsonl");
+
+    private final String[] extensions;
+
+    EImportFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    public static EImportFormat fromFilename(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return null;
+        }
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        for (EImportFormat format : values()) {
+            for (String candidate : format.extensions) {
+                if (candidate.equals(extension)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum ETransactionBatchAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
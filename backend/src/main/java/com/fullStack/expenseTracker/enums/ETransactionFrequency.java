@@ -1,7 +1,37 @@
 package com.fullStack.expenseTracker.enums;
 
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
 public enum ETransactionFrequency {
     ONE_TIME,
     DAILY,
-    MONTHLY
+    WEEKLY,
+    BIWEEKLY,
+    MONTHLY,
+    // Last day of every month, whatever its length
+    MONTH_END,
+    QUARTERLY,
+    YEARLY,
+    // Follows the plan's RRULE, see RecurrenceRule
+    CUSTOM;
+
+    /**
+     * @return the occurrence after {@code date}, or {@code null} when the plan does not repeat
+     */
+    public LocalDate next(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date.plusDays(1);
+            case WEEKLY -> date.plusWeeks(1);
+            case BIWEEKLY -> date.plusWeeks(2);
+            case MONTHLY -> date.plusMonths(1);
+            case MONTH_END -> date.equals(date.with(TemporalAdjusters.lastDayOfMonth()))
+                    ? date.plusMonths(1).with(TemporalAdjusters.lastDayOfMonth())
+                    : date.with(TemporalAdjusters.lastDayOfMonth());
+            case QUARTERLY -> date.plusMonths(3);
+            case YEARLY -> date.plusYears(1);
+            case ONE_TIME -> null;
+            case CUSTOM -> throw new IllegalStateException("CUSTOM plans are scheduled by their recurrence rule");
+        };
+    }
 }
@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.events;
+
+/**
+ * Published when a write may have moved a user's expense total for a month. The budget check runs
+ * after the publishing transaction commits, off the request thread.
+ */
+public record BudgetEvaluationRequestedEvent(long userId, int month, int year) {
+}
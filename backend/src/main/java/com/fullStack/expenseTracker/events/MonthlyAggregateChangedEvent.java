@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.events;
+
+/**
+ * Published by {@code MonthlyAggregateService.recordDelta} for every bucket a write moves. Listeners
+ * bound to the commit phase see exactly the deltas that were made durable.
+ */
+public record MonthlyAggregateChangedEvent(long userId, int transactionTypeId, int month, int year, double amount) {
+}
@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.events;
+
+/**
+ * Published when monthly aggregates change in bulk (rebuild, category re-typing, user deletion) rather
+ * than through deltas. {@code userId} is {@code null} when every user is affected.
+ */
+public record MonthlyAggregatesResetEvent(Long userId) {
+}
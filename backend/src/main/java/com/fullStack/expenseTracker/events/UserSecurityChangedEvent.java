@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.events;
+
+/**
+ * Published whenever something that feeds a user's authentication or authorization changes:
+ * enabled state, password, roles, or the account being deleted. Listeners drop any cached principal.
+ */
+public record UserSecurityChangedEvent(long userId, String email) {
+}
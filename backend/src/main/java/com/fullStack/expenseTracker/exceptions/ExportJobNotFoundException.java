@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.exceptions;
+
+public class ExportJobNotFoundException extends Exception{
+
+    public ExportJobNotFoundException(String message) {
+        super(message);
+    }
+}
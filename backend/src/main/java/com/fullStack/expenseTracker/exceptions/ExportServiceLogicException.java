@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.exceptions;
+
+public class ExportServiceLogicException extends Exception{
+    public ExportServiceLogicException(String message) {
+        super(message);
+    }
+}
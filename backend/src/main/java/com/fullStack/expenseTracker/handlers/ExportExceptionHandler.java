@@ -0,0 +1,32 @@
+package com.fullStack.expenseTracker.handlers;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.exceptions.ExportJobNotFoundException;
+import com.fullStack.expenseTracker.exceptions.ExportServiceLogicException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ExportExceptionHandler {
+
+    @ExceptionHandler(value = ExportJobNotFoundException.class)
+    public ResponseEntity<ApiResponseDto<String>> exportJobNotFoundExceptionHandler(ExportJobNotFoundException exception) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(
+                        new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.NOT_FOUND, exception.getMessage())
+                );
+    }
+
+    @ExceptionHandler(value = ExportServiceLogicException.class)
+    public ResponseEntity<ApiResponseDto<String>> exportServiceLogicExceptionHandler(ExportServiceLogicException exception) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(
+                        new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.BAD_REQUEST, exception.getMessage())
+                );
+    }
+}
@@ -20,6 +20,8 @@ public class Budget {
     double amount;
     int month;
     long year;
+    // Highest alert threshold already sent for this month, see BudgetAlertServiceImpl
+    int alertedPercent;
 
     public Budget(long userId, double amount, int month, long year) {
         this.userId = userId;
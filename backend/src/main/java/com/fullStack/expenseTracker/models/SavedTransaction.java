@@ -30,5 +30,11 @@ public class SavedTransaction {
     @Enumerated(EnumType.STRING)
     private ETransactionFrequency frequency;
 
+    // RRULE subset, only read when frequency is CUSTOM (see RecurrenceRule)
+    private String recurrenceRule;
+
     private LocalDate upcomingDate;
+
+    // Posted by the recurring scheduler when due instead of waiting for the user
+    private boolean autoPost;
 }
@@ -0,0 +1,44 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of a user's transactions for one (year, month, transaction type, category).
+ * Rows are maintained incrementally by the transaction write paths and can be recomputed
+ * from the raw transaction table by {@code MonthlyAggregateService#rebuild}.
+ */
+@Entity
+@Table(name = "user_monthly_aggregate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_monthly_aggregate_key",
+                columnNames = {"user_id", "year", "month", "transaction_type_id", "category_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserMonthlyAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long aggregateId;
+
+    private long userId;
+
+    private int year;
+
+    private int month;
+
+    private int transactionTypeId;
+
+    private int categoryId;
+
+    private double totalAmount;
+
+    private long transactionCount;
+}
@@ -2,9 +2,11 @@ package com.fullStack.expenseTracker.repository;
 
 import com.fullStack.expenseTracker.models.Budget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,4 +16,17 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     
     @Query(value = "SELECT * FROM budget WHERE user_id = :userId", nativeQuery = true)
     List<Budget> findByUserId(@Param("userId") long userId);
+
+    // Only the caller that actually raises the level gets 1 back and sends the alert
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE budget SET alerted_percent = :percent WHERE budget_id = :budgetId AND alerted_percent < :percent",
+            nativeQuery = true)
+    int raiseAlertedPercent(@Param("budgetId") long budgetId, @Param("percent") int percent);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE budget SET alerted_percent = :percent WHERE budget_id = :budgetId AND alerted_percent > :percent",
+            nativeQuery = true)
+    int lowerAlertedPercent(@Param("budgetId") long budgetId, @Param("percent") int percent);
 }
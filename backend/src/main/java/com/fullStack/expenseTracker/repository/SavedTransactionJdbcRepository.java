@@ -0,0 +1,56 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC batch writes for saved_transaction, used by the recurring scheduler next to
+ * {@link TransactionJdbcRepository}.
+ */
+@Repository
+public class SavedTransactionJdbcRepository {
+
+    private static final String ADVANCE_SQL = "UPDATE saved_transaction SET upcoming_date = ? WHERE plan_id = ?";
+
+    private static final String DISABLE_AUTO_POST_SQL = "UPDATE saved_transaction SET auto_post = FALSE WHERE plan_id = ?";
+
+    private static final String DELETE_OCCURRENCES_SQL = "DELETE FROM saved_transaction_occurrence WHERE plan_id = ?";
+
+    private static final String INSERT_OCCURRENCE_SQL = "INSERT INTO saved_transaction_occurrence " +
+            "(plan_id, occurrence_date, user_id, transaction_type_id, category_id, amount) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rows are {@code {upcomingDate, planId}}; a {@code null} date ends a one-time plan.
+     */
+    public void advanceAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(ADVANCE_SQL, rows);
+    }
+
+    /**
+     * Stops the scheduler from claiming {@code planIds} again; the plans stay listed for their owner to fix.
+     */
+    public void disableAutoPostAll(List<Long> planIds) {
+        jdbcTemplate.batchUpdate(DISABLE_AUTO_POST_SQL, planIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * Drops the indexed occurrences of {@code planIds} and writes {@code rows} in their place. Rows are
+     * {@code {planId, occurrenceDate, userId, transactionTypeId, categoryId, amount}}.
+     */
+    public void replaceOccurrences(List<Long> planIds, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(DELETE_OCCURRENCES_SQL, planIds.stream().map(id -> new Object[]{id}).toList());
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_OCCURRENCE_SQL, rows);
+        }
+    }
+
+    public boolean hasOccurrences() {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM saved_transaction_occurrence LIMIT 1").isEmpty();
+    }
+}
@@ -1,12 +1,67 @@
 package com.fullStack.expenseTracker.repository;
 
 import com.fullStack.expenseTracker.models.SavedTransaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SavedTransactionRepository extends JpaRepository<SavedTransaction, Long> {
     List<SavedTransaction> findByUserIdOrderByUpcomingDateAsc(long userId);
+
+    // SELECT ... FOR UPDATE: manual changes wait for an auto-post run holding the plan, and the run skips a
+    // plan being changed by hand, so neither writes over the other's upcoming date
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SavedTransaction s WHERE s.planId = :planId")
+    Optional<SavedTransaction> findByIdForUpdate(@Param("planId") long planId);
+
+    Page<SavedTransaction> findByUpcomingDateIsNotNull(Pageable pageable);
+
+    // Rows are {planId, transactionTypeId, categoryName, amount, description, frequency, recurrenceRule,
+    // autoPost, upcomingDate}, the category name joined in so listing a user's plans is a single statement
+    String VIEW_COLUMNS = "SELECT s.plan_id, s.transaction_type_id, c.category_name, s.amount, s.description, " +
+            "s.frequency, s.recurrence_rule, s.auto_post, s.upcoming_date " +
+            "FROM saved_transaction s JOIN category c ON c.category_id = s.category_id ";
+
+    @Query(value = VIEW_COLUMNS + "WHERE s.user_id = :userId ORDER BY s.upcoming_date", nativeQuery = true)
+    List<Object[]> findViewsByUserId(@Param("userId") long userId);
+
+    // Plans due in [from, to): the upcoming date in range (idx_saved_transaction_user_date), which also catches
+    // overdue plans, or a later occurrence in range from the occurrence index (idx_occurrence_user_date)
+    @Query(value = VIEW_COLUMNS + "WHERE s.plan_id IN (" +
+            "SELECT plan_id FROM saved_transaction WHERE user_id = :userId AND upcoming_date >= :from AND upcoming_date < :to " +
+            "UNION SELECT plan_id FROM saved_transaction_occurrence " +
+            "WHERE user_id = :userId AND occurrence_date >= :from AND occurrence_date < :to) " +
+            "ORDER BY s.upcoming_date", nativeQuery = true)
+    List<Object[]> findViewsByUserIdDueBetween(@Param("userId") long userId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    // Rows are {year, month, transactionTypeName, amount, occurrences}
+    @Query(value = "SELECT YEAR(o.occurrence_date), MONTH(o.occurrence_date), tt.transaction_type_name, " +
+            "SUM(o.amount), COUNT(*) FROM saved_transaction_occurrence o " +
+            "JOIN transaction_type tt ON tt.transaction_type_id = o.transaction_type_id " +
+            "WHERE o.user_id = :userId AND o.occurrence_date >= :from AND o.occurrence_date < :to " +
+            "GROUP BY YEAR(o.occurrence_date), MONTH(o.occurrence_date), tt.transaction_type_name", nativeQuery = true)
+    List<Object[]> projectMonthlyTotals(@Param("userId") long userId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    // Rows locked by another node's run are skipped rather than waited for, so nodes split the backlog
+    @Query(value = "SELECT * FROM saved_transaction WHERE auto_post = TRUE AND upcoming_date <= :today " +
+            "ORDER BY upcoming_date, plan_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SavedTransaction> claimDue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*), MIN(upcoming_date) FROM saved_transaction " +
+            "WHERE auto_post = TRUE AND upcoming_date <= :today", nativeQuery = true)
+    List<Object[]> findDueBacklog(@Param("today") LocalDate today);
 }
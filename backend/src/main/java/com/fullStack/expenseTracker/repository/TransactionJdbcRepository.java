@@ -0,0 +1,71 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC batch writes for the transaction table. The entity uses IDENTITY keys, which stops
+ * Hibernate from batching inserts, so multi-row writes go through here. Rows are
+ * {@code {userId, categoryId, description, amount, date}}; callers keep the monthly aggregates in step.
+ */
+@Repository
+public class TransactionJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO `transaction` (user_id, category_id, description, amount, date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE `transaction` SET user_id = ?, category_id = ?, description = ?, amount = ?, date = ? WHERE transaction_id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM `transaction` WHERE transaction_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * @return the generated ids, in the order of {@code rows}
+     */
+    public long[] insertAllReturningKeys(List<Object[]> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                long[] keys = new long[rows.size()];
+                try (ResultSet generated = statement.getGeneratedKeys()) {
+                    for (int i = 0; i < keys.length && generated.next(); i++) {
+                        keys[i] = generated.getLong(1);
+                    }
+                }
+                return keys;
+            }
+        });
+    }
+
+    /**
+     * Rows carry the transaction id as a sixth element.
+     */
+    public void updateAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+    }
+
+    public void deleteAllById(List<Long> transactionIds) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, transactionIds.stream().map(id -> new Object[]{id}).toList());
+    }
+}
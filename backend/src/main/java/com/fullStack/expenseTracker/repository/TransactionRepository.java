@@ -1,5 +1,7 @@
 package com.fullStack.expenseTracker.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -13,7 +15,12 @@ import org.springframework.stereotype.Repository;
 import com.fullStack.expenseTracker.models.Transaction;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionRepositoryCustom {
+
+    String MONTH_START = "MAKEDATE(:year, 1) + INTERVAL (:month - 1) MONTH";
+
+    String NEXT_MONTH_START = "MAKEDATE(:year, 1) + INTERVAL :month MONTH";
 
     @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
             "u.id AS u_id, u.email AS u_email, " +
@@ -24,6 +31,53 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
             "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%'))", nativeQuery = true)
     Page<Transaction> findByUser(String email, Pageable pageable, String searchKey, String transactionType);
 
+    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
+            "u.id AS u_id, u.email AS u_email, " +
+            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
+            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+            "WHERE u.email = :email and tt.transaction_type_name LIKE CONCAT('%', :transactionType, '%') and " +
+            "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%')) and " +
+            "t.date <= :afterDate and (t.date < :afterDate OR t.transaction_id < :afterId) " +
+            "ORDER BY t.date DESC, t.transaction_id DESC LIMIT :limit", nativeQuery = true)
+    List<Transaction> findByUserAfter(@Param("email") String email,
+                                      @Param("searchKey") String searchKey,
+                                      @Param("transactionType") String transactionType,
+                                      @Param("afterDate") LocalDate afterDate,
+                                      @Param("afterId") long afterId,
+                                      @Param("limit") int limit);
+
+    // Day buckets of the feed, newest first, before the cursor day. Rows are {date, income, expense, count};
+    // the (user_id, date, ...) indexes serve the backward range scan and grouping on date
+    @Query(value = "SELECT t.date, " +
+            "SUM(CASE WHEN tt.transaction_type_name = 'TYPE_EXPENSE' THEN 0 ELSE t.amount END), " +
+            "SUM(CASE WHEN tt.transaction_type_name = 'TYPE_EXPENSE' THEN t.amount ELSE 0 END), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
+            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+            "WHERE u.email = :email and tt.transaction_type_name LIKE CONCAT('%', :transactionType, '%') and " +
+            "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%')) and " +
+            "t.date < :beforeDate GROUP BY t.date ORDER BY t.date DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findDayTotalsByUserBefore(@Param("email") String email,
+                                             @Param("searchKey") String searchKey,
+                                             @Param("transactionType") String transactionType,
+                                             @Param("beforeDate") LocalDate beforeDate,
+                                             @Param("limit") int limit);
+
+    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
+            "u.id AS u_id, u.email AS u_email, " +
+            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
+            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+            "WHERE u.email = :email and tt.transaction_type_name LIKE CONCAT('%', :transactionType, '%') and " +
+            "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%')) and " +
+            "t.date >= :fromDate and t.date <= :toDate " +
+            "ORDER BY t.date DESC, t.transaction_id DESC", nativeQuery = true)
+    List<Transaction> findByUserBetweenDates(@Param("email") String email,
+                                             @Param("searchKey") String searchKey,
+                                             @Param("transactionType") String transactionType,
+                                             @Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate);
+
     @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
             "u.id AS u_id, u.email AS u_email, " +
             "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
@@ -34,26 +88,100 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
     Page<Transaction> findAll(Pageable pageable, @Param("searchKey") String searchKey);
 
 
-    @Query(value = "SELECT SUM(amount) FROM `transaction` t " +
-            "JOIN users u ON t.user_id = u.id " +
-            "JOIN category c ON t.category_id = c.category_id " +
+    // Ranked search: description hits come from the full-text index, category and type matches are
+    // resolved to category ids by the caller. Each branch is served by its own index and merged here.
+    String USER_SEARCH_HITS = "SELECT t.transaction_id, t.date, MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM transaction t JOIN users u ON t.user_id = u.id " +
+            "WHERE u.email = :email AND MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) " +
+            "AND t.category_id IN (:allowedCategoryIds) " +
+            "UNION ALL " +
+            "SELECT t.transaction_id, t.date, 0 FROM transaction t JOIN users u ON t.user_id = u.id " +
+            "WHERE u.email = :email AND t.category_id IN (:matchedCategoryIds) AND t.category_id IN (:allowedCategoryIds)";
+
+    String ADMIN_SEARCH_HITS = "SELECT t.transaction_id, MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM transaction t WHERE MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) " +
+            "UNION ALL " +
+            "SELECT t.transaction_id, 0 FROM transaction t WHERE t.category_id IN (:matchedCategoryIds) " +
+            "UNION ALL " +
+            "SELECT t.transaction_id, 0 FROM transaction t " +
+            "WHERE t.user_id IN (SELECT u.id FROM users u WHERE u.email LIKE CONCAT('%', :searchKey, '%'))";
+
+    @Query(value = "SELECT s.transaction_id FROM (" + USER_SEARCH_HITS + ") s " +
+            "GROUP BY s.transaction_id, s.date " +
+            "ORDER BY MAX(s.score) DESC, s.date DESC, s.transaction_id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchIdsByUser(@Param("email") String email,
+                               @Param("query") String query,
+                               @Param("matchedCategoryIds") Collection<Integer> matchedCategoryIds,
+                               @Param("allowedCategoryIds") Collection<Integer> allowedCategoryIds,
+                               @Param("limit") int limit,
+                               @Param("offset") long offset);
+
+    // Same hits in the caller's sort order instead of by relevance; the sort is applied to the outer t like findByUser
+    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
+            "u.id AS u_id, u.email AS u_email, " +
+            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
             "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.id = :userId AND tt.transaction_type_id = :transactionTypeId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
+            "WHERE t.transaction_id IN (SELECT s.transaction_id FROM (" + USER_SEARCH_HITS + ") s)",
+            countQuery = "SELECT COUNT(DISTINCT s.transaction_id) FROM (" + USER_SEARCH_HITS + ") s",
+            nativeQuery = true)
+    Page<Transaction> searchByUserSorted(@Param("email") String email,
+                                         @Param("query") String query,
+                                         @Param("matchedCategoryIds") Collection<Integer> matchedCategoryIds,
+                                         @Param("allowedCategoryIds") Collection<Integer> allowedCategoryIds,
+                                         Pageable pageable);
+
+    @Query(value = "SELECT COUNT(DISTINCT s.transaction_id) FROM (" + USER_SEARCH_HITS + ") s", nativeQuery = true)
+    long countSearchHitsByUser(@Param("email") String email,
+                               @Param("query") String query,
+                               @Param("matchedCategoryIds") Collection<Integer> matchedCategoryIds,
+                               @Param("allowedCategoryIds") Collection<Integer> allowedCategoryIds);
+
+    @Query(value = "SELECT s.transaction_id FROM (" + ADMIN_SEARCH_HITS + ") s " +
+            "GROUP BY s.transaction_id " +
+            "ORDER BY MAX(s.score) DESC, s.transaction_id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchIds(@Param("query") String query,
+                         @Param("searchKey") String searchKey,
+                         @Param("matchedCategoryIds") Collection<Integer> matchedCategoryIds,
+                         @Param("limit") int limit,
+                         @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(DISTINCT s.transaction_id) FROM (" + ADMIN_SEARCH_HITS + ") s", nativeQuery = true)
+    long countSearchHits(@Param("query") String query,
+                         @Param("searchKey") String searchKey,
+                         @Param("matchedCategoryIds") Collection<Integer> matchedCategoryIds);
+
+    // Hydrates a page of search hits in one statement; the caller restores the ranked order
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category c JOIN FETCH c.transactionType JOIN FETCH t.user " +
+            "WHERE t.transactionId IN :ids")
+    List<Transaction> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Current bucket of each row for batch writes; read as plain values and locked until commit so the
+    // aggregate deltas computed from them cannot race a concurrent change
+    @Query(value = "SELECT t.transaction_id, t.user_id, t.category_id, c.transaction_type_id, tt.transaction_type_name, t.date, t.amount " +
+            "FROM `transaction` t JOIN category c ON t.category_id = c.category_id " +
+            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+            "WHERE t.transaction_id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Object[]> findWriteStateByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Month bounds are computed from the parameters so the date predicate stays an index range scan
+    @Query(value = "SELECT SUM(t.amount) FROM `transaction` t " +
+            "JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.user_id = :userId AND c.transaction_type_id = :transactionTypeId " +
+            "AND t.date >= " + MONTH_START + " AND t.date < " + NEXT_MONTH_START, nativeQuery = true)
     Double findTotalByUserAndTransactionType(@Param("userId") long userId,
                                              @Param("transactionTypeId") Integer transactionTypeId,
                                              @Param("month") int month,
                                              @Param("year") int year);
 
-    @Query(value = "SELECT COUNT(*) FROM `transaction` t JOIN users u ON t.user_id = u.id " +
-            "WHERE u.id = :userId AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
+    @Query(value = "SELECT COUNT(*) FROM `transaction` t " +
+            "WHERE t.user_id = :userId AND t.date >= " + MONTH_START + " AND t.date < " + NEXT_MONTH_START, nativeQuery = true)
     Integer findTotalNoOfTransactionsByUser(@Param("userId") long userId, @Param("month") int month, @Param("year") int year);
 
-    @Query(value = "SELECT SUM(amount) FROM `transaction` t " +
+    @Query(value = "SELECT SUM(t.amount) FROM `transaction` t " +
             "JOIN users u ON t.user_id = u.id " +
-            "JOIN category c ON t.category_id = c.category_id " +
-            "WHERE u.email = :email and c.category_id = :categoryId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
+            "WHERE u.email = :email and t.category_id = :categoryId " +
+            "AND t.date >= " + MONTH_START + " AND t.date < " + NEXT_MONTH_START, nativeQuery = true)
     Double findTotalByUserAndCategory(@Param("email") String email,
                                       @Param("categoryId") int categoryId,
                                       @Param("month") int month,
@@ -71,6 +199,18 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
             "GROUP BY YEAR(t.date), MONTH(t.date)", nativeQuery = true)
     List<Object[]> findMonthlySummaryByUser(@Param("email") String email);
 
+    // Rows are {date, categoryId, amount, count} for both ranges at once; every column is in
+    // idx_transaction_user_date_cat_amount, so the scan never reads the clustered rows
+    @Query(value = "SELECT t.date, t.category_id, SUM(t.amount), COUNT(*) FROM transaction t " +
+            "WHERE t.user_id = :userId AND ((t.date >= :from AND t.date <= :to) " +
+            "OR (t.date >= :previousFrom AND t.date <= :previousTo)) " +
+            "GROUP BY t.date, t.category_id", nativeQuery = true)
+    List<Object[]> findDailyCategoryTotals(@Param("userId") long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("previousFrom") LocalDate previousFrom,
+                                           @Param("previousTo") LocalDate previousTo);
+
     @Query(value = "SELECT * FROM transaction WHERE user_id = :userId", nativeQuery = true)
     List<Transaction> findByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
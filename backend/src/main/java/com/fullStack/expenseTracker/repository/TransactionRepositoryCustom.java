@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionExportRowDto;
+import com.fullStack.expenseTracker.models.Transaction;
+
+public interface TransactionRepositoryCustom {
+
+    /**
+     * Streams every transaction matching {@code spec}, oldest first, with its category and type fetched
+     * in the same row. Must be consumed inside a read-only transaction and closed by the caller.
+     */
+    Stream<Transaction> streamAll(Specification<Transaction> spec, int fetchSize);
+
+    /**
+     * Same filter and order as {@link #streamAll}, but selects only the exported columns into
+     * {@link TransactionExportRowDto} so no entities are created or tracked.
+     */
+    Stream<TransactionExportRowDto> streamExportRows(Specification<Transaction> spec, int fetchSize);
+}
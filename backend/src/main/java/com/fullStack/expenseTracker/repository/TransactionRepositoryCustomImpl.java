@@ -0,0 +1,76 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionExportRowDto;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Transaction> streamAll(Specification<Transaction> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        // A streaming MySQL result set blocks the connection, so nothing may be lazily loaded while it is open
+        Fetch<Transaction, Category> category = root.fetch("category", JoinType.LEFT);
+        category.fetch("transactionType", JoinType.LEFT);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("date")), cb.asc(root.get("transactionId")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<TransactionExportRowDto> streamExportRows(Specification<Transaction> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionExportRowDto> query = cb.createQuery(TransactionExportRowDto.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+        Join<Category, TransactionType> transactionType = category.join("transactionType", JoinType.LEFT);
+
+        query.select(cb.construct(TransactionExportRowDto.class,
+                root.get("transactionId"),
+                root.get("date"),
+                category.get("categoryName"),
+                transactionType.get("transactionTypeName"),
+                root.get("description"),
+                root.get("amount")));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("date")), cb.asc(root.get("transactionId")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
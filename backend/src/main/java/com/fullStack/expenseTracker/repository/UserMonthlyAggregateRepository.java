@@ -0,0 +1,106 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fullStack.expenseTracker.models.UserMonthlyAggregate;
+
+@Repository
+public interface UserMonthlyAggregateRepository extends JpaRepository<UserMonthlyAggregate, Long> {
+
+    String RAW_AGGREGATES = "SELECT t.user_id, YEAR(t.date) AS year, MONTH(t.date) AS month, c.transaction_type_id, " +
+            "t.category_id, SUM(t.amount) AS total_amount, COUNT(*) AS transaction_count " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.user_id IS NOT NULL AND t.date IS NOT NULL " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id";
+
+    // Single-statement upsert so concurrent writers to the same bucket cannot lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO user_monthly_aggregate " +
+            "(user_id, year, month, transaction_type_id, category_id, total_amount, transaction_count) " +
+            "VALUES (:userId, :year, :month, :transactionTypeId, :categoryId, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)", nativeQuery = true)
+    void addToBucket(@Param("userId") long userId,
+                     @Param("year") int year,
+                     @Param("month") int month,
+                     @Param("transactionTypeId") int transactionTypeId,
+                     @Param("categoryId") int categoryId,
+                     @Param("amount") double amount,
+                     @Param("count") long count);
+
+    @Query(value = "SELECT SUM(a.total_amount) FROM user_monthly_aggregate a " +
+            "WHERE a.user_id = :userId AND a.year = :year AND a.month = :month " +
+            "AND a.transaction_type_id = :transactionTypeId AND a.transaction_count > 0", nativeQuery = true)
+    Double findTotalByUserAndTransactionType(@Param("userId") long userId,
+                                             @Param("transactionTypeId") int transactionTypeId,
+                                             @Param("month") int month,
+                                             @Param("year") int year);
+
+    @Query(value = "SELECT COALESCE(SUM(a.transaction_count), 0) FROM user_monthly_aggregate a " +
+            "WHERE a.user_id = :userId AND a.year = :year AND a.month = :month", nativeQuery = true)
+    Integer findTotalNoOfTransactionsByUser(@Param("userId") long userId, @Param("month") int month, @Param("year") int year);
+
+    @Query(value = "SELECT SUM(a.total_amount) FROM user_monthly_aggregate a " +
+            "JOIN users u ON a.user_id = u.id " +
+            "WHERE u.email = :email AND a.year = :year AND a.month = :month AND a.category_id = :categoryId " +
+            "AND a.transaction_count > 0", nativeQuery = true)
+    Double findTotalByUserAndCategory(@Param("email") String email,
+                                      @Param("categoryId") int categoryId,
+                                      @Param("month") int month,
+                                      @Param("year") int year);
+
+    @Query(value = "SELECT a.year, a.month, " +
+            "SUM(CASE WHEN a.transaction_type_id = 1 THEN a.total_amount ELSE 0 END), " +
+            "SUM(CASE WHEN a.transaction_type_id = 2 THEN a.total_amount ELSE 0 END) " +
+            "FROM user_monthly_aggregate a JOIN users u ON a.user_id = u.id " +
+            "WHERE u.email = :email AND (a.year > :fromYear OR (a.year = :fromYear AND a.month >= :fromMonth)) " +
+            "GROUP BY a.year, a.month ORDER BY a.year, a.month", nativeQuery = true)
+    List<Object[]> findMonthlySummaryByUser(@Param("email") String email,
+                                            @Param("fromYear") int fromYear,
+                                            @Param("fromMonth") int fromMonth);
+
+    // One row per user that has activity in the month: user_id, expense total, income total, transaction count
+    @Query(value = "SELECT a.user_id, " +
+            "SUM(CASE WHEN tt.transaction_type_name = 'TYPE_EXPENSE' AND a.transaction_count > 0 THEN a.total_amount END), " +
+            "SUM(CASE WHEN tt.transaction_type_name = 'TYPE_INCOME' AND a.transaction_count > 0 THEN a.total_amount END), " +
+            "SUM(a.transaction_count) " +
+            "FROM user_monthly_aggregate a JOIN transaction_type tt ON a.transaction_type_id = tt.transaction_type_id " +
+            "WHERE a.user_id IN (:userIds) AND a.year = :year AND a.month = :month " +
+            "GROUP BY a.user_id", nativeQuery = true)
+    List<Object[]> findMonthlyTotalsByUsers(@Param("userIds") Collection<Long> userIds,
+                                            @Param("month") int month,
+                                            @Param("year") int year);
+
+    @Modifying
+    @Query(value = "UPDATE user_monthly_aggregate SET transaction_type_id = :transactionTypeId " +
+            "WHERE category_id = :categoryId", nativeQuery = true)
+    void retypeCategory(@Param("categoryId") int categoryId, @Param("transactionTypeId") int transactionTypeId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_monthly_aggregate WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") long userId);
+
+    @Query(value = RAW_AGGREGATES, nativeQuery = true)
+    List<Object[]> computeFromTransactions();
+
+    @Query(value = "SELECT a.user_id, a.year, a.month, a.transaction_type_id, a.category_id, " +
+            "a.total_amount, a.transaction_count FROM user_monthly_aggregate a", nativeQuery = true)
+    List<Object[]> findAllAsRows();
+
+    @Modifying
+    @Query(value = "DELETE FROM user_monthly_aggregate", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_monthly_aggregate " +
+            "(user_id, year, month, transaction_type_id, category_id, total_amount, transaction_count) " +
+            RAW_AGGREGATES, nativeQuery = true)
+    void insertFromTransactions();
+}
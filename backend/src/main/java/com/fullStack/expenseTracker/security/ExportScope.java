@@ -0,0 +1,43 @@
+package com.fullStack.expenseTracker.security;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.fullStack.expenseTracker.enums.ERole;
+
+/**
+ * Decides whose transactions an export may contain. Admins may name any user or none (every user);
+ * everyone else only ever gets their own, and naming somebody else or nobody is refused with a 403.
+ */
+public final class ExportScope {
+
+    private ExportScope() {
+    }
+
+    /** @return the email to filter the export by, or the requested one (possibly blank) for admins */
+    public static String emailFor(Authentication authentication, String requestedEmail) {
+        if (isAdmin(authentication)) {
+            return requestedEmail;
+        }
+        String ownEmail = emailOf(authentication);
+        if (requestedEmail == null || requestedEmail.isBlank() || !requestedEmail.trim().equalsIgnoreCase(ownEmail)) {
+            throw new AccessDeniedException("Only administrators can export other users' transactions");
+        }
+        return ownEmail;
+    }
+
+    /** The caller's email, which export jobs and their notifications are owned by. */
+    public static String emailOf(Authentication authentication) {
+        return ((UserDetailsImpl) authentication.getPrincipal()).getEmail();
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ERole.ROLE_ADMIN.name().equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
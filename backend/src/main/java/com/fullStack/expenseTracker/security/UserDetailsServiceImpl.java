@@ -1,27 +1,89 @@
 package com.fullStack.expenseTracker.security;
 
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fullStack.expenseTracker.dto.reponses.CacheStatsDto;
+import com.fullStack.expenseTracker.events.UserSecurityChangedEvent;
 import com.fullStack.expenseTracker.models.User;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
 
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, MeterBinder {
     @Autowired
     UserRepository userRepository;
 
+    // Principals keyed by email; unknown emails are never cached so sign-up is visible immediately
+    private final Cache<String, UserDetailsImpl> principals;
+
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserDetailsServiceImpl(@Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                                  @Value("${app.security.principal-cache.ttl-ms:600000}") long ttlMs) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
+        UserDetailsImpl cached = principals.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Roles are fetched in the same query, so no transaction has to stay open for the lazy collection
+        User user = userRepository.findWithRolesByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
-        return UserDetailsImpl.build(user);
+        UserDetailsImpl loaded = UserDetailsImpl.build(user);
+        principals.put(username, loaded);
+        return loaded;
+    }
+
+    // Runs after the change has committed, so a concurrent request cannot re-cache the old state
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        if (event.email() != null) {
+            principals.invalidate(event.email());
+        }
+        principals.asMap().values().removeIf(principal -> principal.getId() != null && principal.getId() == event.userId());
+        invalidations.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principals, "security.principals");
+    }
+
+    public CacheStatsDto getCacheStats() {
+        CacheStats stats = principals.stats();
+        return new CacheStatsDto(
+                principals.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                invalidations.sum()
+        );
     }
 
-}
\ No newline at end of file
+}
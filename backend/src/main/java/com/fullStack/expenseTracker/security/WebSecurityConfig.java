@@ -84,6 +84,9 @@ public class WebSecurityConfig {
                                 .requestMatchers("/mypockit/saved/**").authenticated()
                                 .requestMatchers("/mypockit/budget/**").authenticated()
                                 .requestMatchers("/mypockit/report/**").authenticated()
+                                // Scraped by Prometheus and probed by the load balancer without a token
+                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 );
 
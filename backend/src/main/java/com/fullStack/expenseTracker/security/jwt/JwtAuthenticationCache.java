@@ -0,0 +1,98 @@
+package com.fullStack.expenseTracker.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fullStack.expenseTracker.events.UserSecurityChangedEvent;
+import com.fullStack.expenseTracker.security.UserDetailsImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Maps the digest of an already verified token to the principal it authenticated, so repeat requests
+ * with the same token skip both signature verification and the user lookup. Entries never outlive
+ * the token itself and are dropped as soon as the user is disabled or deleted.
+ */
+@Component
+public class JwtAuthenticationCache implements MeterBinder {
+
+    private final Cache<String, Entry> cache;
+
+    public JwtAuthenticationCache(@Value("${app.jwt.cache.max-size:10000}") long maxSize,
+                                  @Value("${app.jwt.cache.ttl-ms:300000}") long ttlMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        long untilTokenExpiry = entry.tokenExpiresAtMillis() - System.currentTimeMillis();
+                        return Duration.ofMillis(Math.max(0, Math.min(ttlMs, untilTokenExpiry))).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.authentication");
+    }
+
+    public UserDetailsImpl get(String token) {
+        Entry entry = cache.getIfPresent(digest(token));
+        return entry == null ? null : entry.principal();
+    }
+
+    public void put(String token, UserDetailsImpl principal, long tokenExpiresAtMillis) {
+        cache.put(digest(token), new Entry(principal, tokenExpiresAtMillis));
+    }
+
+    public void invalidateUser(long userId) {
+        cache.asMap().values().removeIf(entry -> Objects.equals(entry.principal().getId(), userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // Raw bearer tokens are never kept in memory as keys
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(UserDetailsImpl principal, long tokenExpiresAtMillis) {
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
 @Component
 public class JwtUtils {
@@ -24,6 +25,12 @@ public class JwtUtils {
     @Value("${app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    // Decoding the secret and building a parser are comparatively expensive, so both are built once.
+    // They are created lazily so a misconfigured secret still fails per request rather than at startup.
+    private volatile Key signingKey;
+
+    private volatile JwtParser jwtParser;
+
     public String generateJwtToken(Authentication authentication) {
 
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
@@ -37,28 +44,52 @@ public class JwtUtils {
     }
 
     private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        Key key = signingKey;
+        if (key == null) {
+            // Benign race: concurrent callers derive identical keys
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder().setSigningKey(key()).build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser().parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseValidClaims(authToken) != null;
+    }
+
+    /**
+     * Verifies the signature and expiry of a signed token in a single parse.
+     *
+     * @return the token's claims, or {@code null} if the token is not valid
+     */
+    public Claims parseValidClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            return parser().parseClaimsJws(authToken).getBody();
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             logger.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (SignatureException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
     }
 }
@@ -0,0 +1,73 @@
+package com.fullStack.expenseTracker.security.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fullStack.expenseTracker.security.UserDetailsImpl;
+import com.fullStack.expenseTracker.security.UserDetailsServiceImpl;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Authenticates a STOMP session from the {@code Authorization: Bearer} header of its CONNECT frame, so
+ * messages sent with {@code convertAndSendToUser} reach only that user's sessions. Sessions are named by
+ * the user's email, the same identifier the JWT subject and the HTTP endpoints use. Sessions without a
+ * valid token still connect and receive the broadcast topics.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    private static final Logger slf4jLogger = LoggerFactory.getLogger(StompAuthChannelInterceptor.class);
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String headerAuth = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(headerAuth) || !headerAuth.startsWith("Bearer ")) {
+            return message;
+        }
+
+        String jwt = headerAuth.substring(7);
+        try {
+            UserDetailsImpl userDetails = jwtAuthenticationCache.get(jwt);
+            if (userDetails == null) {
+                Claims claims = jwtUtils.parseValidClaims(jwt);
+                if (claims == null) {
+                    return message;
+                }
+                userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject());
+            }
+            if (userDetails.isEnabled()) {
+                accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails.getEmail(), null, userDetails.getAuthorities()));
+            }
+        } catch (UsernameNotFoundException e) {
+            slf4jLogger.error("Cannot set STOMP session user: {}", e.getMessage());
+        }
+        return message;
+    }
+}
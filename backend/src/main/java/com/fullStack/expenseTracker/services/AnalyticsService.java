@@ -0,0 +1,22 @@
+package com.fullStack.expenseTracker.services;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.EAnalyticsBucket;
+import com.fullStack.expenseTracker.enums.EAnalyticsComparison;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+
+/**
+ * Income and expense over an arbitrary date range, bucketed and broken down by category, next to a
+ * comparison period. Both periods come from one grouped scan; results are cached per user data version.
+ */
+@Service
+public interface AnalyticsService {
+
+    ResponseEntity<ApiResponseDto<?>> getAnalytics(long userId, LocalDate from, LocalDate to, EAnalyticsBucket bucket,
+                                                   EAnalyticsComparison comparison) throws TransactionServiceLogicException;
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Compares a user's expenses for one month with their budget and pushes an alert the first time
+ * spending crosses 50%, 80% and 100% of it. Writers publish a
+ * {@link com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent}; checks run after commit
+ * on a background worker that folds bursts for the same month into one evaluation.
+ */
+@Service
+public interface BudgetAlertService {
+
+    void evaluate(long userId, int month, int year);
+}
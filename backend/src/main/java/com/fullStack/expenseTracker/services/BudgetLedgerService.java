@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.BudgetLedgerStatsDto;
+
+/**
+ * In-memory running expense totals per (user, month), kept in whole cents. Entries are seeded from the
+ * monthly aggregates on first use and then moved by committed aggregate deltas, so reads never hit the
+ * database; a periodic reconciliation corrects any drift against the aggregates.
+ */
+@Service
+public interface BudgetLedgerService {
+
+    double getExpenseTotal(long userId, int month, int year);
+
+    BudgetLedgerStatsDto reconcile();
+
+    BudgetLedgerStatsDto getStats();
+}
@@ -11,5 +11,7 @@ import org.springframework.stereotype.Service;
 public interface BudgetService {
     ResponseEntity<ApiResponseDto<?>> createBudget(BudgetRequest budgetRequest) throws UserNotFoundException, UserServiceLogicException;
     ResponseEntity<ApiResponseDto<?>> getBudgetByMonth(long userId, int month, long year) throws UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getBudgetStatus(long userId, int month, int year) throws UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getLedgerStats();
 
 }
@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Monotonic change counters for transaction data, used to key caches and deduplicate derived artifacts.
+ * A version only moves forward once the change that caused it has committed. Anything derived from one
+ * user's data is keyed on the pair ({@link #bulkVersion()}, {@link #userVersion(long)}), so another
+ * user's writes leave it valid.
+ */
+@Service
+public interface DataVersionService {
+
+    /** Moves on every change of any user; for artifacts that span all users. */
+    long currentVersion();
+
+    /** Moves only on changes that may touch every user, such as a full aggregate rebuild. */
+    long bulkVersion();
+
+    /** Moves when this user's data changes. */
+    long userVersion(long userId);
+
+    void markChanged(long userId);
+
+    void markAllChanged();
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.ExportJobRequestDto;
+import com.fullStack.expenseTracker.exceptions.ExportJobNotFoundException;
+import com.fullStack.expenseTracker.exceptions.ExportServiceLogicException;
+
+@Service
+public interface ExportJobService {
+
+    ResponseEntity<ApiResponseDto<?>> createJob(String owner, ExportJobRequestDto requestDto) throws ExportServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getJob(String owner, String jobId) throws ExportJobNotFoundException;
+
+    ResponseEntity<StreamingResponseBody> download(String owner, String jobId, String rangeHeader)
+            throws ExportJobNotFoundException, ExportServiceLogicException;
+}
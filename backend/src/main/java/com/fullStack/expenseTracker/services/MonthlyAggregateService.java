@@ -0,0 +1,39 @@
+package com.fullStack.expenseTracker.services;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.AggregateDriftReportDto;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+@Service
+public interface MonthlyAggregateService {
+
+    void recordTransaction(Transaction transaction, int sign);
+
+    void recordDelta(long userId, int transactionTypeId, int categoryId, LocalDate date, double amount, long count);
+
+    void recordDeltas(AggregateDeltas deltas);
+
+    Double getTotalByTransactionType(long userId, int transactionTypeId, int month, int year);
+
+    Integer getTotalNoOfTransactions(long userId, int month, int year);
+
+    Double getTotalByCategory(String email, int categoryId, int month, int year);
+
+    List<Object[]> getMonthlySummary(String email, LocalDate from);
+
+    List<Object[]> getMonthlyTotalsByUsers(Collection<Long> userIds, int month, int year);
+
+    void retypeCategory(int categoryId, int transactionTypeId);
+
+    void deleteByUser(long userId);
+
+    AggregateDriftReportDto verify();
+
+    AggregateDriftReportDto rebuild();
+}
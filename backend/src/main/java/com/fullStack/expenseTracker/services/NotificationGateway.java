@@ -2,24 +2,91 @@ package com.fullStack.expenseTracker.services;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class NotificationGateway {
+public class NotificationGateway implements MeterBinder {
 
     private final SimpMessagingTemplate simpMessagingTemplate;
 
+    // One pair of counters per alert type; types are a handful of constants, so the map stays tiny
+    private final Map<String, AlertCounts> countsByType = new ConcurrentHashMap<>();
+
+    private final Function<String, AlertCounts> newCounts = this::newCounts;
+
+    private volatile MeterRegistry meterRegistry;
+
     public void sendAlert(String type, Map<String, Object> payload) {
-        simpMessagingTemplate.convertAndSend("/topic/alerts", Objects.requireNonNull(Map.of(
+        AlertCounts counts = countsByType.computeIfAbsent(type, newCounts);
+        try {
+            simpMessagingTemplate.convertAndSend("/topic/alerts", message(type, payload));
+            counts.sent.increment();
+        } catch (RuntimeException e) {
+            counts.failed.increment();
+            throw e;
+        }
+    }
+
+    /** Delivers the alert to /user/queue/alerts of the sessions signed in with the given email only. */
+    public void sendAlertToUser(String email, String type, Map<String, Object> payload) {
+        AlertCounts counts = countsByType.computeIfAbsent(type, newCounts);
+        try {
+            simpMessagingTemplate.convertAndSendToUser(email, "/queue/alerts", message(type, payload));
+            counts.sent.increment();
+        } catch (RuntimeException e) {
+            counts.failed.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        countsByType.forEach((type, counts) -> register(registry, type, counts));
+    }
+
+    private static Map<String, Object> message(String type, Map<String, Object> payload) {
+        return Objects.requireNonNull(Map.of(
                 "type", type,
                 "data", payload
-        )));
+        ));
     }
-}
 
+    private AlertCounts newCounts(String type) {
+        AlertCounts counts = new AlertCounts();
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            register(registry, type, counts);
+        }
+        return counts;
+    }
+
+    private static void register(MeterRegistry registry, String type, AlertCounts counts) {
+        FunctionCounter.builder("notifications.alerts", counts.sent, LongAdder::sum)
+                .description("Alerts pushed to /topic/alerts and /user/queue/alerts")
+                .tags("type", type, "outcome", "sent")
+                .register(registry);
+        FunctionCounter.builder("notifications.alerts", counts.failed, LongAdder::sum)
+                .description("Alerts pushed to /topic/alerts and /user/queue/alerts")
+                .tags("type", type, "outcome", "failed")
+                .register(registry);
+    }
+
+    private static final class AlertCounts {
+
+        private final LongAdder sent = new LongAdder();
 
+        private final LongAdder failed = new LongAdder();
+    }
+}
@@ -0,0 +1,34 @@
+package com.fullStack.expenseTracker.services;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+/**
+ * Keeps saved_transaction_occurrence in step with the saved plans: the occurrence dates of each plan
+ * from the start of the current month up to a fixed horizon. Callers reindex a plan in the same
+ * transaction that changes it; deleting a plan drops its occurrences through the foreign key.
+ */
+@Service
+public interface RecurrenceIndexService {
+
+    void reindex(SavedTransaction plan);
+
+    /**
+     * For callers that moved plans with a bulk update, so the entities no longer carry the upcoming date.
+     */
+    void reindex(List<PlanSchedule> schedules);
+
+    /**
+     * Re-expands every plan; run nightly so the window moves forward with the calendar.
+     *
+     * @return the number of plans indexed
+     */
+    int rebuild();
+
+    record PlanSchedule(SavedTransaction plan, LocalDate upcomingDate) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+
+/**
+ * Posts every due occurrence of auto-post saved transactions, including the ones missed while the
+ * application was down, and moves each plan's upcoming date past today.
+ */
+@Service
+public interface RecurringTransactionService {
+
+    ResponseEntity<ApiResponseDto<?>> runNow() throws UserServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getStats();
+}
@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.services;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+
+/**
+ * In-memory view of categories and transaction types, so read paths resolve them without a query.
+ * Lookups return detached copies; {@link #refresh()} rebuilds the view once the current change commits.
+ */
+@Service
+public interface ReferenceDataService {
+
+    List<Category> getCategories();
+
+    Category findCategory(int categoryId);
+
+    List<TransactionType> getTransactionTypes();
+
+    TransactionType findTransactionType(int transactionTypeId);
+
+    void refresh();
+}
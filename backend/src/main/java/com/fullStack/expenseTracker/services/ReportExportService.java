@@ -1,57 +1,267 @@
 package com.fullStack.expenseTracker.services;
 
+import com.fullStack.expenseTracker.dto.reponses.TransactionExportRowDto;
+import com.fullStack.expenseTracker.enums.EExportFormat;
 import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.util.ChunkedUtf8Writer;
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
-import org.apache.poi.ss.usermodel.Cell;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
-public class ReportExportService {
+public class ReportExportService implements MeterBinder {
 
-    public byte[] toPdf(String title, List<Transaction> transactions) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, out);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final String[] HEADERS = {"Date", "Category", "Description", "Amount"};
+
+    // Excel column widths in 1/256ths of a character; autoSizeColumn cannot see rows already flushed to disk
+    private static final int[] COLUMN_WIDTHS = {12 * 256, 24 * 256, 48 * 256, 14 * 256};
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // Recorded once per export, never per row; filled up front so lookups need no locking
+    private final Map<EExportFormat, ExportStats> statsByFormat = new EnumMap<>(EExportFormat.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time instead of buffering the result
+    @Value("${app.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    @Value("${app.export.clear-interval:1000}")
+    private int clearInterval;
+
+    @Value("${app.export.excel-row-window:100}")
+    private int excelRowWindow;
+
+    @Value("${app.export.pdf-flush-rows:500}")
+    private int pdfFlushRows;
+
+    @Value("${app.export.chunk-size:65536}")
+    private int chunkSize;
+
+    public ReportExportService() {
+        for (EExportFormat format : EExportFormat.values()) {
+            statsByFormat.put(format, new ExportStats());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPdf(String title, Specification<Transaction> spec, OutputStream out) throws IOException {
+        measured(EExportFormat.PDF, out, counted -> {
+            try (Stream<Transaction> transactions = stream(spec)) {
+                writePdf(title, transactions, counted);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public void exportExcel(String sheetName, Specification<Transaction> spec, OutputStream out) throws IOException {
+        measured(EExportFormat.EXCEL, out, counted -> {
+            try (Stream<Transaction> transactions = stream(spec)) {
+                writeExcel(sheetName, transactions, counted);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(Specification<Transaction> spec, OutputStream out) throws IOException {
+        measured(EExportFormat.CSV, out, counted -> {
+            try (Stream<TransactionExportRowDto> rows = transactionRepository.streamExportRows(spec, fetchSize)) {
+                writeCsv(rows, counted);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public void exportNdjson(Specification<Transaction> spec, OutputStream out) throws IOException {
+        measured(EExportFormat.NDJSON, out, counted -> {
+            try (Stream<TransactionExportRowDto> rows = transactionRepository.streamExportRows(spec, fetchSize)) {
+                writeNdjson(rows, counted);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EExportFormat format : EExportFormat.values()) {
+            ExportStats stats = statsByFormat.get(format);
+            String tag = format.name().toLowerCase(Locale.ROOT);
+            FunctionTimer.builder("report.export", stats, s -> s.count.sum(), s -> s.nanos.sum(), TimeUnit.NANOSECONDS)
+                    .description("Time to render and write one export, including rows read from the database")
+                    .tag("format", tag)
+                    .register(registry);
+            FunctionCounter.builder("report.export.bytes", stats.bytes, LongAdder::sum)
+                    .baseUnit("bytes")
+                    .tag("format", tag)
+                    .register(registry);
+            FunctionCounter.builder("report.export.failures", stats.failures, LongAdder::sum)
+                    .tag("format", tag)
+                    .register(registry);
+        }
+    }
+
+    private void measured(EExportFormat format, OutputStream out, ExportBody body) throws IOException {
+        ExportStats stats = statsByFormat.get(format);
+        CountingOutputStream counted = new CountingOutputStream(out);
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            body.writeTo(counted);
+            completed = true;
+        } finally {
+            stats.count.increment();
+            stats.nanos.add(System.nanoTime() - start);
+            stats.bytes.add(counted.bytes);
+            if (!completed) {
+                stats.failures.increment();
+            }
+        }
+    }
+
+    public void writeCsv(Stream<TransactionExportRowDto> rows, OutputStream out) throws IOException {
+        ChunkedUtf8Writer writer = new ChunkedUtf8Writer(out, chunkSize);
+        writer.write("transactionId,date,category,transactionType,description,amount\r\n");
+
+        Iterator<TransactionExportRowDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            TransactionExportRowDto row = iterator.next();
+            if (row.getTransactionId() != null) {
+                writer.write(row.getTransactionId().longValue());
+            }
+            writer.write(',');
+            writeDate(writer, row.getDate());
+            writer.write(',');
+            writeCsvField(writer, row.getCategoryName());
+            writer.write(',');
+            if (row.getTransactionType() != null) {
+                writer.write(row.getTransactionType().name());
+            }
+            writer.write(',');
+            writeCsvField(writer, row.getDescription());
+            writer.write(',');
+            writer.write(formatAmount(row.getAmount()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    public void writeNdjson(Stream<TransactionExportRowDto> rows, OutputStream out) throws IOException {
+        ChunkedUtf8Writer writer = new ChunkedUtf8Writer(out, chunkSize);
+
+        Iterator<TransactionExportRowDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            TransactionExportRowDto row = iterator.next();
+            writer.write("{\"transactionId\":");
+            if (row.getTransactionId() == null) {
+                writer.write("null");
+            } else {
+                writer.write(row.getTransactionId().longValue());
+            }
+            writer.write(",\"date\":");
+            if (row.getDate() == null) {
+                writer.write("null");
+            } else {
+                writer.write('"');
+                writeDate(writer, row.getDate());
+                writer.write('"');
+            }
+            writer.write(",\"category\":");
+            writeJsonString(writer, row.getCategoryName());
+            writer.write(",\"transactionType\":");
+            writeJsonString(writer, row.getTransactionType() == null ? null : row.getTransactionType().name());
+            writer.write(",\"description\":");
+            writeJsonString(writer, row.getDescription());
+            writer.write(",\"amount\":");
+            writer.write(formatAmount(row.getAmount()));
+            writer.write("}\n");
+        }
+        writer.flush();
+    }
+
+    public void writePdf(String title, Stream<Transaction> transactions, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            // The servlet container owns the response stream
+            writer.setCloseStream(false);
             document.open();
 
             document.add(new Paragraph(title, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16)));
             document.add(new Paragraph("\n"));
 
-            PdfPTable table = new PdfPTable(4);
+            PdfPTable table = new PdfPTable(HEADERS.length);
             table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            // Incomplete tables are laid out and released every time they are added to the document
+            table.setComplete(false);
+            for (String header : HEADERS) {
+                addHeader(table, header);
+            }
 
-            addHeader(table, "Date");
-            addHeader(table, "Category");
-            addHeader(table, "Description");
-            addHeader(table, "Amount");
-
-            DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            transactions.forEach(t -> {
-                table.addCell(t.getDate() == null ? "" : fmt.format(t.getDate()));
+            int pending = 0;
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction t = iterator.next();
+                table.addCell(t.getDate() == null ? "" : DATE_FORMAT.format(t.getDate()));
                 table.addCell(t.getCategory() == null ? "" : t.getCategory().getCategoryName());
                 table.addCell(t.getDescription() == null ? "" : t.getDescription());
                 table.addCell(String.valueOf(t.getAmount()));
-            });
 
+                if (++pending >= pdfFlushRows) {
+                    document.add(table);
+                    pending = 0;
+                }
+            }
+
+            table.setComplete(true);
             document.add(table);
-            document.close();
-            return out.toByteArray();
-        } catch (Exception e) {
+        } catch (DocumentException e) {
             log.error("Error generating PDF: " + e.getMessage(), e);
-            throw new RuntimeException("Failed to generate PDF: " + e.getMessage(), e);
+            throw new IOException("Failed to generate PDF: " + e.getMessage(), e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
         }
     }
 
@@ -61,35 +271,160 @@ public class ReportExportService {
         table.addCell(header);
     }
 
-    public byte[] toExcel(String sheetName, List<Transaction> transactions) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            XSSFSheet sheet = workbook.createSheet(sheetName);
+    public void writeExcel(String sheetName, Stream<Transaction> transactions, OutputStream out) throws IOException {
+        // Only the last excelRowWindow rows stay in memory; older rows are flushed to a compressed temp file
+        SXSSFWorkbook workbook = new SXSSFWorkbook(excelRowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet(sheetName);
+            for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i]);
+            }
 
             int rowIdx = 0;
             Row header = sheet.createRow(rowIdx++);
-            header.createCell(0).setCellValue("Date");
-            header.createCell(1).setCellValue("Category");
-            header.createCell(2).setCellValue("Description");
-            header.createCell(3).setCellValue("Amount");
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
 
-            DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            for (Transaction t : transactions) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction t = iterator.next();
                 Row r = sheet.createRow(rowIdx++);
-                Cell c0 = r.createCell(0);
-                c0.setCellValue(t.getDate() == null ? "" : fmt.format(t.getDate()));
+                r.createCell(0).setCellValue(t.getDate() == null ? "" : DATE_FORMAT.format(t.getDate()));
                 r.createCell(1).setCellValue(t.getCategory() == null ? "" : t.getCategory().getCategoryName());
                 r.createCell(2).setCellValue(t.getDescription() == null ? "" : t.getDescription());
                 r.createCell(3).setCellValue(t.getAmount());
             }
 
-            for (int i = 0; i < 4; i++) sheet.autoSizeColumn(i);
             workbook.write(out);
-            return out.toByteArray();
-        } catch (Exception e) {
-            log.error("Error generating Excel: " + e.getMessage(), e);
-            throw new RuntimeException("Failed to generate Excel: " + e.getMessage(), e);
+        } finally {
+            workbook.close();
+            workbook.dispose();
         }
     }
-}
 
+    private static void writeDate(ChunkedUtf8Writer writer, LocalDate date) throws IOException {
+        if (date == null) {
+            return;
+        }
+        writer.write(date.getYear());
+        writer.write('-');
+        writeTwoDigits(writer, date.getMonthValue());
+        writer.write('-');
+        writeTwoDigits(writer, date.getDayOfMonth());
+    }
+
+    private static void writeTwoDigits(ChunkedUtf8Writer writer, int value) throws IOException {
+        writer.write((char) ('0' + value / 10));
+        writer.write((char) ('0' + value % 10));
+    }
 
+    // RFC 4180: quote only when needed and double any embedded quotes
+    private static void writeCsvField(ChunkedUtf8Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonString(ChunkedUtf8Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX_DIGITS[c >> 4]);
+                        writer.write(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    // Plain decimal notation so downstream accounting tools never see 1.0E7. This is the one String left per
+    // row: the shortest digits that round-trip a double come from Double.toString underneath
+    private static String formatAmount(double amount) {
+        return BigDecimal.valueOf(amount).toPlainString();
+    }
+
+    private Stream<Transaction> stream(Specification<Transaction> spec) {
+        AtomicLong rows = new AtomicLong();
+        // Rows are fully fetched before they are handed out, so detaching them early is safe and keeps the context small
+        return transactionRepository.streamAll(spec, fetchSize)
+                .peek(t -> {
+                    if (rows.incrementAndGet() % clearInterval == 0) {
+                        entityManager.clear();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ExportBody {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final class ExportStats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        private final LongAdder bytes = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+    }
+
+    // One export writes from one thread, so a plain field is enough
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long bytes;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+}
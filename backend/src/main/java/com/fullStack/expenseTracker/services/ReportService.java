@@ -14,4 +14,8 @@ public interface ReportService {
 
     ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(String email);
 
+    ResponseEntity<ApiResponseDto<?>> verifyAggregates();
+
+    ResponseEntity<ApiResponseDto<?>> rebuildAggregates();
+
 }
@@ -16,7 +16,8 @@ public interface SavedTransactionService {
     ResponseEntity<ApiResponseDto<?>> deleteSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
     ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
     ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUser(long userId) throws UserServiceLogicException, UserNotFoundException;
-    ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId) throws UserServiceLogicException, UserNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId, Integer month, Integer year) throws UserServiceLogicException, UserNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> getCashFlowProjection(long userId) throws UserServiceLogicException, UserNotFoundException;
     ResponseEntity<ApiResponseDto<?>> getSavedTransactionById(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
 
 }
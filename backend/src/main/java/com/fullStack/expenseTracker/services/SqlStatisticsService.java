@@ -0,0 +1,29 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+
+/**
+ * Counts the SQL statements each HTTP request runs and keeps per-endpoint aggregates plus a history of
+ * slow queries. Requests that run more statements than the configured budget are logged with the
+ * statement they repeated most, which is usually an N+1 lookup.
+ */
+@Service
+public interface SqlStatisticsService {
+
+    /**
+     * Starts counting for the current thread; statements outside a request are only checked for slowness.
+     */
+    void beginRequest(String method, String uri);
+
+    /**
+     * @param endpoint controller method that handled the request, or {@code null} to discard the count
+     */
+    void endRequest(String endpoint);
+
+    ResponseEntity<ApiResponseDto<?>> getStatistics();
+
+    ResponseEntity<ApiResponseDto<?>> resetStatistics();
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+
+@Service
+public interface TransactionBatchService {
+
+    ResponseEntity<ApiResponseDto<?>> processBatch(TransactionBatchRequestDto batchRequestDto)
+            throws TransactionServiceLogicException;
+}
@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.EImportFormat;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+
+@Service
+public interface TransactionImportService {
+
+    ResponseEntity<ApiResponseDto<?>> importTransactions(String email, MultipartFile file, EImportFormat format)
+            throws UserNotFoundException, TransactionServiceLogicException;
+}
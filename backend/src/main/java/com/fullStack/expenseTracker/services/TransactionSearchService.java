@@ -0,0 +1,22 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.fullStack.expenseTracker.models.Transaction;
+
+/**
+ * Relevance-ranked transaction search backed by the full-text index on descriptions. Pages are
+ * resolved to ids first and hydrated in a single fetch, keeping the ranked order. A sorted pageable
+ * matches the same rows but pages them in its own order instead.
+ */
+@Service
+public interface TransactionSearchService {
+
+    boolean isSearchable(String searchKey);
+
+    Page<Transaction> searchByUser(String email, String searchKey, String transactionType, Pageable pageable);
+
+    Page<Transaction> searchAll(String searchKey, Pageable pageable);
+}
@@ -29,4 +29,8 @@ public interface TransactionService {
 
     ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(String email, int pageNumber, int pageSize, String searchKey, String sortField, String sortDirec, String transactionType) throws UserNotFoundException, TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> getTransactionsByUserAfter(String email, String cursor, int pageSize, String searchKey, String transactionType) throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getTransactionFeed(String email, String cursor, int days, String searchKey, String transactionType) throws TransactionServiceLogicException;
+
 }
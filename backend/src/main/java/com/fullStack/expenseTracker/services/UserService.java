@@ -29,4 +29,6 @@ public interface UserService {
     ResponseEntity<ApiResponseDto<?>> getProfileImg(String email) throws UserNotFoundException, IOException, UserServiceLogicException;
 
     ResponseEntity<ApiResponseDto<?>> deleteProfileImg(String email) throws UserServiceLogicException, UserNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> getPrincipalCacheStats();
 }
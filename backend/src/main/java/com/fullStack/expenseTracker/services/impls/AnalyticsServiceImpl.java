@@ -0,0 +1,189 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fullStack.expenseTracker.dto.reponses.AnalyticsBucketDto;
+import com.fullStack.expenseTracker.dto.reponses.AnalyticsCategoryDto;
+import com.fullStack.expenseTracker.dto.reponses.AnalyticsReportDto;
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.EAnalyticsBucket;
+import com.fullStack.expenseTracker.enums.EAnalyticsComparison;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.AnalyticsService;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService, MeterBinder {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${app.analytics.max-buckets:400}")
+    private int maxBuckets;
+
+    // Keyed on the user's own version and the bulk version: the user's writes and full rebuilds make older
+    // entries unreachable, other users' writes do not
+    private final Cache<ReportKey, AnalyticsReportDto> reports;
+
+    public AnalyticsServiceImpl(@Value("${app.analytics.cache.max-entries:10000}") long maxEntries,
+                                @Value("${app.analytics.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.reports = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, reports, "analytics.reports");
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getAnalytics(long userId, LocalDate from, LocalDate to, EAnalyticsBucket bucket,
+                                                          EAnalyticsComparison comparison) throws TransactionServiceLogicException {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new TransactionServiceLogicException("The analytics range needs a start on or before its end!");
+        }
+        EAnalyticsBucket size = bucket == null ? EAnalyticsBucket.MONTH : bucket;
+        EAnalyticsComparison against = comparison == null ? EAnalyticsComparison.PREVIOUS_PERIOD : comparison;
+        if (size.indexOf(from, to) + 1 > maxBuckets) {
+            throw new TransactionServiceLogicException("The range spans more than " + maxBuckets + " buckets; use a larger bucket!");
+        }
+
+        try {
+            // Read before the scan: a write committing meanwhile moves the version and the next call recomputes
+            ReportKey key = new ReportKey(userId, from, to, size, against, dataVersionService.bulkVersion(),
+                    dataVersionService.userVersion(userId));
+            AnalyticsReportDto report = reports.get(key, this::compute);
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            report
+                    )
+            );
+        } catch (DataAccessException e) {
+            log.error("Failed to compute analytics for user {}: {}", userId, e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch analytics! Try again later");
+        }
+    }
+
+    AnalyticsReportDto compute(ReportKey key) {
+        LocalDate[] previous = key.comparison().rangeFor(key.from(), key.to());
+        EAnalyticsBucket size = key.bucket();
+
+        List<AnalyticsBucketDto> buckets = new ArrayList<>();
+        for (LocalDate current = size.start(key.from()), prior = size.start(previous[0]);
+             !current.isAfter(key.to()); current = size.next(current), prior = size.next(prior)) {
+            buckets.add(new AnalyticsBucketDto(current, 0, 0, 0, prior, 0, 0, 0));
+        }
+        Map<Integer, AnalyticsCategoryDto> categories = new TreeMap<>();
+        AnalyticsReportDto report = new AnalyticsReportDto(key.from(), key.to(), size, key.comparison(),
+                previous[0], previous[1], 0, 0, 0, 0, 0, 0, buckets, null, key.userVersion());
+
+        for (Object[] row : transactionRepository.findDailyCategoryTotals(key.userId(), key.from(), key.to(),
+                previous[0], previous[1])) {
+            LocalDate date = row[0] instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+            int categoryId = ((Number) row[1]).intValue();
+            double amount = ((Number) row[2]).doubleValue();
+            long count = ((Number) row[3]).longValue();
+
+            AnalyticsCategoryDto category = categories.computeIfAbsent(categoryId, this::newCategory);
+            boolean expense = isExpense(category.getTransactionTypeId());
+
+            // The two ranges can overlap when the comparison is a year back over a range longer than a year
+            if (!date.isBefore(key.from()) && !date.isAfter(key.to())) {
+                AnalyticsBucketDto bucket = buckets.get(size.indexOf(key.from(), date));
+                category.setAmount(category.getAmount() + amount);
+                category.setCount(category.getCount() + count);
+                bucket.setCount(bucket.getCount() + count);
+                report.setCount(report.getCount() + count);
+                if (expense) {
+                    bucket.setExpense(bucket.getExpense() + amount);
+                    report.setExpense(report.getExpense() + amount);
+                } else {
+                    bucket.setIncome(bucket.getIncome() + amount);
+                    report.setIncome(report.getIncome() + amount);
+                }
+            }
+            if (!date.isBefore(previous[0]) && !date.isAfter(previous[1])) {
+                int index = size.indexOf(previous[0], date);
+                AnalyticsBucketDto bucket = index < buckets.size() ? buckets.get(index) : null;
+                category.setPreviousAmount(category.getPreviousAmount() + amount);
+                category.setPreviousCount(category.getPreviousCount() + count);
+                report.setPreviousCount(report.getPreviousCount() + count);
+                if (bucket != null) {
+                    bucket.setPreviousCount(bucket.getPreviousCount() + count);
+                }
+                if (expense) {
+                    report.setPreviousExpense(report.getPreviousExpense() + amount);
+                    if (bucket != null) {
+                        bucket.setPreviousExpense(bucket.getPreviousExpense() + amount);
+                    }
+                } else {
+                    report.setPreviousIncome(report.getPreviousIncome() + amount);
+                    if (bucket != null) {
+                        bucket.setPreviousIncome(bucket.getPreviousIncome() + amount);
+                    }
+                }
+            }
+        }
+
+        report.setCategories(categories.values().stream()
+                .sorted(Comparator.comparingDouble(AnalyticsCategoryDto::getAmount).reversed())
+                .toList());
+        return report;
+    }
+
+    private boolean isExpense(int transactionTypeId) {
+        TransactionType type = referenceDataService.findTransactionType(transactionTypeId);
+        return type != null && type.getTransactionTypeName() == ETransactionType.TYPE_EXPENSE;
+    }
+
+    private AnalyticsCategoryDto newCategory(int categoryId) {
+        Category category = referenceDataService.findCategory(categoryId);
+        return category == null
+                ? new AnalyticsCategoryDto(categoryId, null, 0, 0, 0, 0, 0)
+                : new AnalyticsCategoryDto(categoryId, category.getCategoryName(),
+                category.getTransactionType().getTransactionTypeId(), 0, 0, 0, 0);
+    }
+
+    record ReportKey(long userId, LocalDate from, LocalDate to, EAnalyticsBucket bucket,
+                     EAnalyticsComparison comparison, long bulkVersion, long userVersion) {
+    }
+}
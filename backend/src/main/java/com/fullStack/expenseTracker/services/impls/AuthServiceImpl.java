@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,7 @@ import com.fullStack.expenseTracker.dto.reponses.JwtResponseDto;
 import com.fullStack.expenseTracker.dto.requests.ResetPasswordRequestDto;
 import com.fullStack.expenseTracker.dto.requests.SignUpRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.events.UserSecurityChangedEvent;
 import com.fullStack.expenseTracker.exceptions.RoleNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserAlreadyExistsException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
@@ -61,6 +63,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Value("${app.verificationCodeExpirationMs}")
     private long EXPIRY_PERIOD;
 
@@ -142,6 +147,7 @@ public class AuthServiceImpl implements AuthService {
         user.setVerificationCodeExpiryTime(null);
         user.setEnabled(true);
         userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getEmail()));
 
         // Create UserDetailsImpl for JWT token generation
         UserDetailsImpl userDetails = UserDetailsImpl.build(user);
@@ -182,6 +188,7 @@ public class AuthServiceImpl implements AuthService {
             user.setEnabled(false);
 
             userRepository.save(user);
+            applicationEventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getEmail()));
             notificationService.sendUserRegistrationVerificationEmail(user);
 
             return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
@@ -267,6 +274,7 @@ public class AuthServiceImpl implements AuthService {
                 user.setPassword(passwordEncoder.encode(resetPasswordDto.getNewPassword()));
 
                 userRepository.save(user);
+                applicationEventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getEmail()));
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                         ApiResponseStatus.SUCCESS,
@@ -0,0 +1,131 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.BudgetAlertService;
+import com.fullStack.expenseTracker.services.BudgetLedgerService;
+import com.fullStack.expenseTracker.services.NotificationGateway;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class BudgetAlertServiceImpl implements BudgetAlertService {
+
+    // Percentages of the budget that trigger an alert, in ascending order
+    private static final int[] THRESHOLDS = {50, 80, 100};
+
+    @Autowired
+    private BudgetLedgerService budgetLedgerService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private NotificationGateway notificationGateway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Requests for the same month arriving within this window are evaluated once
+    @Value("${app.budget.alerts.coalesce-ms:250}")
+    private long coalesceMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final Set<UserMonth> pending = ConcurrentHashMap.newKeySet();
+
+    private ScheduledThreadPoolExecutor worker;
+
+    @PostConstruct
+    void start() {
+        worker = new ScheduledThreadPoolExecutor(1, virtualThreads
+                ? Thread.ofVirtual().name("budget-alerts").factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "budget-alerts");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        worker.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetEvaluationRequested(BudgetEvaluationRequestedEvent event) {
+        UserMonth key = new UserMonth(event.userId(), event.month(), event.year());
+        // Only the first request of a burst schedules work; later ones are folded into it
+        if (pending.add(key)) {
+            worker.schedule(() -> drain(key), coalesceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain(UserMonth key) {
+        // Removed before evaluating so a write committed meanwhile schedules a fresh check
+        pending.remove(key);
+        try {
+            evaluate(key.userId(), key.month(), key.year());
+        } catch (Exception e) {
+            log.warn("Budget evaluation failed for user {} ({}/{}): {}", key.userId(), key.month(), key.year(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evaluate(long userId, int month, int year) {
+        Budget budget = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        if (budget == null || budget.getAmount() <= 0) {
+            return;
+        }
+
+        double spent = budgetLedgerService.getExpenseTotal(userId, month, year);
+        int level = 0;
+        for (int threshold : THRESHOLDS) {
+            if (spent * 100 >= budget.getAmount() * threshold) {
+                level = threshold;
+            }
+        }
+
+        if (level < budget.getAlertedPercent()) {
+            // Spending dropped back (deletes, edits or a raised budget); thresholds fire again when re-crossed
+            budgetRepository.lowerAlertedPercent(budget.getBudgetId(), level);
+        } else if (level > budget.getAlertedPercent() && budgetRepository.raiseAlertedPercent(budget.getBudgetId(), level) == 1) {
+            // Jumping several thresholds at once sends a single alert for the highest one, to the owner only
+            String email = userRepository.findById(userId).map(User::getEmail).orElse(null);
+            if (email == null) {
+                return;
+            }
+            notificationGateway.sendAlertToUser(email, "BUDGET_ALERT", Map.of(
+                    "userId", userId,
+                    "month", month,
+                    "year", year,
+                    "spent", spent,
+                    "budget", budget.getAmount(),
+                    "threshold", level,
+                    "message", level >= 100 ? "Budget limit reached" : level + "% of budget used"
+            ));
+        }
+    }
+
+    private record UserMonth(long userId, int month, int year) {
+    }
+}
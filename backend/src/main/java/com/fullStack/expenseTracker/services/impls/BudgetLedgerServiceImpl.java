@@ -0,0 +1,183 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fullStack.expenseTracker.dto.reponses.BudgetLedgerStatsDto;
+import com.fullStack.expenseTracker.events.MonthlyAggregateChangedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregatesResetEvent;
+import com.fullStack.expenseTracker.services.BudgetLedgerService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class BudgetLedgerServiceImpl implements BudgetLedgerService, MeterBinder {
+
+    // transactionTypeId 1 is EXPENSE in this project
+    private static final int EXPENSE_TYPE_ID = 1;
+
+    // Keeps the IN list of one reconciliation query bounded
+    private static final int RECONCILE_CHUNK = 1000;
+
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    private final Cache<LedgerKey, LongAdder> totals;
+
+    private final AtomicLong totalCorrections = new AtomicLong();
+
+    private volatile BudgetLedgerStatsDto lastRun = new BudgetLedgerStatsDto();
+
+    public BudgetLedgerServiceImpl(@Value("${app.budget.ledger.max-entries:100000}") long maxEntries,
+                                   @Value("${app.budget.ledger.idle-minutes:60}") long idleMinutes) {
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, totals, "budget.ledger");
+        FunctionCounter.builder("budget.ledger.corrections", totalCorrections, AtomicLong::get)
+                .description("Ledger entries the reconciler found out of step with the monthly aggregates")
+                .register(registry);
+    }
+
+    @Override
+    public double getExpenseTotal(long userId, int month, int year) {
+        return totals.get(new LedgerKey(userId, month, year), this::seed).sum() / 100.0;
+    }
+
+    private LongAdder seed(LedgerKey key) {
+        Double total = monthlyAggregateService.getTotalByTransactionType(key.userId(), EXPENSE_TYPE_ID, key.month(), key.year());
+        LongAdder adder = new LongAdder();
+        adder.add(toCents(total == null ? 0 : total));
+        return adder;
+    }
+
+    /*
+     * Months nobody has asked for are not tracked; their first read seeds from the committed aggregates.
+     * A delta committing while its entry is being seeded can be counted twice, which the next
+     * reconciliation corrects.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMonthlyAggregateChanged(MonthlyAggregateChangedEvent event) {
+        if (event.transactionTypeId() != EXPENSE_TYPE_ID) {
+            return;
+        }
+        LongAdder adder = totals.getIfPresent(new LedgerKey(event.userId(), event.month(), event.year()));
+        if (adder != null) {
+            adder.add(toCents(event.amount()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMonthlyAggregatesReset(MonthlyAggregatesResetEvent event) {
+        if (event.userId() == null) {
+            totals.invalidateAll();
+        } else {
+            totals.asMap().keySet().removeIf(key -> key.userId() == event.userId());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.budget.ledger.reconcile-interval-ms:300000}")
+    public BudgetLedgerStatsDto reconcile() {
+        Map<LedgerMonth, List<LedgerKey>> byMonth = new HashMap<>();
+        for (LedgerKey key : totals.asMap().keySet()) {
+            byMonth.computeIfAbsent(new LedgerMonth(key.month(), key.year()), month -> new ArrayList<>()).add(key);
+        }
+
+        int checked = 0;
+        int drifted = 0;
+        long driftCents = 0;
+        for (Map.Entry<LedgerMonth, List<LedgerKey>> month : byMonth.entrySet()) {
+            List<LedgerKey> keys = month.getValue();
+            for (int from = 0; from < keys.size(); from += RECONCILE_CHUNK) {
+                Map<Long, Before> before = new HashMap<>();
+                for (LedgerKey key : keys.subList(from, Math.min(from + RECONCILE_CHUNK, keys.size()))) {
+                    LongAdder adder = totals.getIfPresent(key);
+                    if (adder != null) {
+                        before.put(key.userId(), new Before(adder, adder.sum()));
+                    }
+                }
+                if (before.isEmpty()) {
+                    continue;
+                }
+
+                Map<Long, Long> expected = new HashMap<>();
+                for (Object[] row : monthlyAggregateService.getMonthlyTotalsByUsers(before.keySet(),
+                        month.getKey().month(), month.getKey().year())) {
+                    expected.put(((Number) row[0]).longValue(), row[1] == null ? 0L : toCents(((Number) row[1]).doubleValue()));
+                }
+
+                for (Map.Entry<Long, Before> entry : before.entrySet()) {
+                    LongAdder adder = entry.getValue().adder();
+                    long observed = entry.getValue().cents();
+                    // A write that landed while the database was read makes the comparison meaningless; next run
+                    if (adder.sum() != observed) {
+                        continue;
+                    }
+                    checked++;
+                    long diff = expected.getOrDefault(entry.getKey(), 0L) - observed;
+                    if (diff != 0) {
+                        adder.add(diff);
+                        drifted++;
+                        driftCents += Math.abs(diff);
+                    }
+                }
+            }
+        }
+
+        totalCorrections.addAndGet(drifted);
+        if (drifted > 0) {
+            log.warn("Budget ledger drifted in {} of {} entries by {} cents in total", drifted, checked, driftCents);
+        }
+        lastRun = new BudgetLedgerStatsDto(totals.estimatedSize(), Instant.now(), checked, drifted, driftCents,
+                totalCorrections.get());
+        return lastRun;
+    }
+
+    @Override
+    public BudgetLedgerStatsDto getStats() {
+        BudgetLedgerStatsDto run = lastRun;
+        return new BudgetLedgerStatsDto(totals.estimatedSize(), run.getLastReconciledAt(), run.getLastCheckedEntries(),
+                run.getLastDriftedEntries(), run.getLastDriftCents(), totalCorrections.get());
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    private record LedgerKey(long userId, int month, int year) {
+    }
+
+    private record LedgerMonth(int month, int year) {
+    }
+
+    private record Before(LongAdder adder, long cents) {
+    }
+}
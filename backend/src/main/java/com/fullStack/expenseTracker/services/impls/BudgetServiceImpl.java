@@ -1,16 +1,20 @@
 package com.fullStack.expenseTracker.services.impls;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BudgetStatusDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.dto.requests.BudgetRequest;
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.models.Budget;
 import com.fullStack.expenseTracker.repository.BudgetRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.BudgetLedgerService;
 import com.fullStack.expenseTracker.services.BudgetService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -27,6 +31,12 @@ public class BudgetServiceImpl implements BudgetService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BudgetLedgerService budgetLedgerService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> createBudget(BudgetRequest budgetRequest) throws UserNotFoundException, UserServiceLogicException {
         if (!userRepository.existsById(budgetRequest.getUserId())) {
@@ -44,6 +54,8 @@ public class BudgetServiceImpl implements BudgetService {
             }
 
             budgetRepository.save(budget);
+            // A new amount can cross or un-cross alert thresholds without any transaction changing
+            applicationEventPublisher.publishEvent(new BudgetEvaluationRequestedEvent(budget.getUserId(), budget.getMonth(), (int) budget.getYear()));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                     ApiResponseStatus.SUCCESS,
@@ -73,4 +85,32 @@ public class BudgetServiceImpl implements BudgetService {
             throw new UserServiceLogicException("Failed to create budget: Try again later!");
         }
     }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getBudgetStatus(long userId, int month, int year) throws UserServiceLogicException {
+        try {
+            Budget budget = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+            double amount = budget == null ? 0 : budget.getAmount();
+            // Served from the in-memory ledger instead of summing the month's transactions
+            double spent = budgetLedgerService.getExpenseTotal(userId, month, year);
+
+            return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                    ApiResponseStatus.SUCCESS,
+                    HttpStatus.OK,
+                    new BudgetStatusDto(amount, spent, amount - spent, amount > 0 ? spent * 100 / amount : 0)
+            ));
+        } catch (Exception e) {
+            log.error("Failed to fetch budget status: " + e.getMessage());
+            throw new UserServiceLogicException("Failed to fetch budget status: Try again later!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getLedgerStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                ApiResponseStatus.SUCCESS,
+                HttpStatus.OK,
+                budgetLedgerService.getStats()
+        ));
+    }
 }
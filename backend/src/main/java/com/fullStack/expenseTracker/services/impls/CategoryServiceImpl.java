@@ -1,6 +1,8 @@
 package com.fullStack.expenseTracker.services.impls;
 
 import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
 import com.fullStack.expenseTracker.services.TransactionTypeService;
 import com.fullStack.expenseTracker.dto.requests.CategoryRequestDto;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
@@ -16,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @Slf4j
@@ -26,24 +29,39 @@ public class CategoryServiceImpl implements CategoryService {
     @Autowired
     private TransactionTypeService transactionTypeService;
 
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getCategories() {
         return ResponseEntity.ok(
                 new ApiResponseDto<>(
                         ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        categoryRepository.findAll()
+                        referenceDataService.getCategories()
                 )
         );
     }
 
     @Override
     public boolean existsCategory(int id) {
-        return categoryRepository.existsById(id);
+        return referenceDataService.findCategory(id) != null;
     }
 
     @Override
     public Category getCategoryById(int id) throws CategoryNotFoundException {
+        Category category = referenceDataService.findCategory(id);
+        if (category == null) {
+            throw new CategoryNotFoundException("Category not found with id" + id);
+        }
+        return category;
+    }
+
+    // Write paths modify the managed entity, never the snapshot copy
+    private Category loadCategoryForUpdate(int id) throws CategoryNotFoundException {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("Category not found with id" + id));
     }
@@ -67,6 +85,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         try {
             categoryRepository.save(category);
+            referenceDataService.refresh();
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -81,16 +100,23 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateCategory(int categoryId, CategoryRequestDto categoryRequestDto)
             throws CategoryNotFoundException, TransactionTypeNotFoundException, CategoryServiceLogicException {
 
-        Category category = getCategoryById(categoryId);
+        Category category = loadCategoryForUpdate(categoryId);
+
+        int previousTypeId = category.getTransactionType().getTransactionTypeId();
 
         category.setCategoryName(categoryRequestDto.getCategoryName());
         category.setTransactionType(transactionTypeService.getTransactionById(categoryRequestDto.getTransactionTypeId()));
 
         try {
             categoryRepository.save(category);
+            if (previousTypeId != category.getTransactionType().getTransactionTypeId()) {
+                monthlyAggregateService.retypeCategory(categoryId, category.getTransactionType().getTransactionTypeId());
+            }
+            referenceDataService.refresh();
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -107,12 +133,13 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public ResponseEntity<ApiResponseDto<?>> enableOrDisableCategory(int categoryId)
             throws CategoryServiceLogicException, CategoryNotFoundException {
-        Category category = getCategoryById(categoryId);
+        Category category = loadCategoryForUpdate(categoryId);
 
         try {
 
             category.setEnabled(!category.isEnabled());
             categoryRepository.save(category);
+            referenceDataService.refresh();
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -0,0 +1,67 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStack.expenseTracker.services.DataVersionService;
+
+@Component
+public class DataVersionServiceImpl implements DataVersionService {
+
+    // The shared counters start from the boot time so (bulk, user) pairs handed out before a restart are never reused
+    private final AtomicLong anyVersion = new AtomicLong(System.currentTimeMillis());
+
+    private final AtomicLong bulkVersion = new AtomicLong(System.currentTimeMillis());
+
+    private final ConcurrentMap<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public long currentVersion() {
+        return anyVersion.get();
+    }
+
+    @Override
+    public long bulkVersion() {
+        return bulkVersion.get();
+    }
+
+    @Override
+    public long userVersion(long userId) {
+        AtomicLong version = userVersions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    @Override
+    public void markChanged(long userId) {
+        afterCommit(() -> {
+            userVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+            anyVersion.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void markAllChanged() {
+        afterCommit(() -> {
+            bulkVersion.incrementAndGet();
+            anyVersion.incrementAndGet();
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ExportJobResponseDto;
+import com.fullStack.expenseTracker.dto.requests.ExportJobRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.EExportJobStatus;
+import com.fullStack.expenseTracker.exceptions.ExportJobNotFoundException;
+import com.fullStack.expenseTracker.exceptions.ExportServiceLogicException;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.services.ExportJobService;
+import com.fullStack.expenseTracker.services.NotificationGateway;
+import com.fullStack.expenseTracker.services.ReportExportService;
+import com.fullStack.expenseTracker.specifications.TransactionSpecification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final String DOWNLOAD_URL = "/mypockit/report/export/jobs/%s/download";
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationGateway notificationGateway;
+
+    @Value("${app.export.jobs.spool-dir:${java.io.tmpdir}/expense-tracker-exports}")
+    private String spoolDirPath;
+
+    // Each worker holds one pooled connection for the whole render, so keep this well below the Hikari pool size
+    @Value("${app.export.jobs.workers:2}")
+    private int workers;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.export.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.export.jobs.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private final ConcurrentMap<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ExportJob> jobsByKey = new ConcurrentHashMap<>();
+
+    private Path spoolDir;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() throws IOException {
+        spoolDir = Paths.get(spoolDirPath).toAbsolutePath();
+        Files.createDirectories(spoolDir);
+
+        // Jobs only live in memory, so files left behind by a previous run can never be downloaded again
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(spoolDir, "*.{part,pdf,xlsx,csv,ndjson}")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+
+        // Still a fixed number of workers in virtual-thread mode: the bound protects the pool, not the CPU
+        AtomicInteger threadIds = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                virtualThreads
+                        ? Thread.ofVirtual().name("export-job-", 1).factory()
+                        : runnable -> {
+                            Thread thread = new Thread(runnable, "export-job-" + threadIds.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Export jobs spool to {} with {} workers", spoolDir, workers);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> createJob(String owner, ExportJobRequestDto requestDto) throws ExportServiceLogicException {
+        // Jobs are only ever shared with the user who asked for them, so the owner is part of the key
+        String dedupKey = filterHash(owner, requestDto) + ":" + dataVersion(requestDto.getEmail());
+
+        ExportJob[] created = new ExportJob[1];
+        ExportJob job = jobsByKey.compute(dedupKey, (key, existing) -> {
+            if (existing != null && existing.status != EExportJobStatus.FAILED) {
+                return existing;
+            }
+            created[0] = new ExportJob(UUID.randomUUID().toString(), owner, requestDto, key);
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, job.toDto())
+            );
+        }
+
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> render(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            jobsByKey.remove(dedupKey, job);
+            throw new ExportServiceLogicException("Too many exports are queued. Try again later!");
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.ACCEPTED, job.toDto())
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getJob(String owner, String jobId) throws ExportJobNotFoundException {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, findJob(owner, jobId).toDto())
+        );
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> download(String owner, String jobId, String rangeHeader)
+            throws ExportJobNotFoundException, ExportServiceLogicException {
+        ExportJob job = findJob(owner, jobId);
+        if (job.status != EExportJobStatus.COMPLETED || job.file == null || !Files.exists(job.file)) {
+            throw new ExportServiceLogicException("Export job " + jobId + " has no file to download yet!");
+        }
+
+        long size = job.sizeBytes;
+        ByteRange range = ByteRange.parse(rangeHeader, size);
+        if (range == ByteRange.UNSATISFIABLE) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+
+        long start = range == null ? 0 : range.start();
+        long length = range == null ? size : range.end() - range.start() + 1;
+        Path file = job.file;
+
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long sent = channel.transferTo(position, remaining, target);
+                    if (sent <= 0) {
+                        break;
+                    }
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(range == null ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.ETAG, "\"" + job.id + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, job.request.getFormat().getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=transactions." + job.request.getFormat().getExtension())
+                .contentLength(length);
+        if (range != null) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        return response.body(body);
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanup-interval-ms:300000}")
+    public void removeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(ttlMinutes));
+        for (ExportJob job : jobs.values()) {
+            if (job.completedAt != null && job.completedAt.isBefore(cutoff)) {
+                jobs.remove(job.id);
+                jobsByKey.remove(job.dedupKey, job);
+                if (job.file != null) {
+                    try {
+                        Files.deleteIfExists(job.file);
+                    } catch (IOException e) {
+                        log.warn("Failed to delete expired export {}: {}", job.file, e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void render(ExportJob job) {
+        job.status = EExportJobStatus.RUNNING;
+        ExportJobRequestDto request = job.request;
+        String extension = request.getFormat().getExtension();
+        Path part = spoolDir.resolve(job.id + "." + extension + ".part");
+        Path target = spoolDir.resolve(job.id + "." + extension);
+
+        try {
+            Specification<Transaction> spec = TransactionSpecification.withFilters(request.getEmail(), request.getFrom(),
+                    request.getTo(), request.getCategoryId(), request.getMin(), request.getMax());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 64 * 1024)) {
+                switch (request.getFormat()) {
+                    case PDF -> reportExportService.exportPdf("Transactions", spec, out);
+                    case EXCEL -> reportExportService.exportExcel("Transactions", spec, out);
+                    case CSV -> reportExportService.exportCsv(spec, out);
+                    case NDJSON -> reportExportService.exportNdjson(spec, out);
+                }
+            }
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            job.file = target;
+            job.sizeBytes = Files.size(target);
+            job.completedAt = Instant.now();
+            job.status = EExportJobStatus.COMPLETED;
+            log.info("Export job {} finished: {} bytes", job.id, job.sizeBytes);
+        } catch (Exception e) {
+            log.error("Export job " + job.id + " failed: " + e.getMessage(), e);
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException ignored) {
+                // the spool directory is purged on the next start anyway
+            }
+            job.error = "Failed to generate the export. Try again later!";
+            job.completedAt = Instant.now();
+            job.status = EExportJobStatus.FAILED;
+        }
+
+        notifyFinished(job);
+    }
+
+    private void notifyFinished(ExportJob job) {
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("jobId", job.id);
+            payload.put("format", job.request.getFormat().name());
+            payload.put("status", job.status.name());
+            if (job.request.getEmail() != null) {
+                payload.put("email", job.request.getEmail());
+            }
+            if (job.status == EExportJobStatus.COMPLETED) {
+                payload.put("downloadUrl", DOWNLOAD_URL.formatted(job.id));
+                payload.put("sizeBytes", job.sizeBytes);
+            }
+            notificationGateway.sendAlertToUser(job.owner,
+                    job.status == EExportJobStatus.COMPLETED ? "EXPORT_READY" : "EXPORT_FAILED", payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish completion of export job {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    // Someone else's job is reported exactly like a missing one, so job ids cannot be probed
+    private ExportJob findJob(String owner, String jobId) throws ExportJobNotFoundException {
+        ExportJob job = jobId == null ? null : jobs.get(jobId);
+        if (job == null || !job.owner.equals(owner)) {
+            throw new ExportJobNotFoundException("Export job not found with id : " + jobId);
+        }
+        return job;
+    }
+
+    // An export of one user's transactions only goes stale when that user's data (or everyone's) changes
+    private String dataVersion(String email) {
+        if (email == null || email.isBlank()) {
+            return "all." + dataVersionService.currentVersion();
+        }
+        return userRepository.findByEmail(email)
+                .map(user -> dataVersionService.bulkVersion() + "." + dataVersionService.userVersion(user.getId()))
+                .orElseGet(() -> "all." + dataVersionService.currentVersion());
+    }
+
+    private static String filterHash(String owner, ExportJobRequestDto request) {
+        String canonical = String.join("|",
+                owner,
+                request.getFormat().name(),
+                String.valueOf(request.getEmail()),
+                String.valueOf(request.getFrom()),
+                String.valueOf(request.getTo()),
+                String.valueOf(request.getCategoryId()),
+                String.valueOf(request.getMin()),
+                String.valueOf(request.getMax()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class ExportJob {
+
+        private final String id;
+
+        private final String owner;
+
+        private final ExportJobRequestDto request;
+
+        private final String dedupKey;
+
+        private final Instant createdAt = Instant.now();
+
+        private volatile EExportJobStatus status = EExportJobStatus.QUEUED;
+
+        private volatile Instant completedAt;
+
+        private volatile long sizeBytes;
+
+        private volatile String error;
+
+        private volatile Path file;
+
+        private ExportJob(String id, String owner, ExportJobRequestDto request, String dedupKey) {
+            this.id = id;
+            this.owner = owner;
+            this.request = request;
+            this.dedupKey = dedupKey;
+        }
+
+        private ExportJobResponseDto toDto() {
+            return new ExportJobResponseDto(id, request.getFormat(), status, createdAt, completedAt, sizeBytes, error,
+                    status == EExportJobStatus.COMPLETED ? DOWNLOAD_URL.formatted(id) : null);
+        }
+    }
+
+    /** A single inclusive byte range; multi-range requests are answered with the whole file. */
+    record ByteRange(long start, long end) {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        static ByteRange parse(String header, long size) {
+            if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                long start;
+                long end = size - 1;
+                if (dash == 0) {
+                    long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix <= 0) {
+                        return UNSATISFIABLE;
+                    }
+                    start = Math.max(0, size - suffix);
+                } else {
+                    start = Long.parseLong(spec.substring(0, dash));
+                    if (dash < spec.length() - 1) {
+                        end = Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+                    }
+                }
+                if (start >= size || start > end) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, end);
+            } catch (NumberFormatException e) {
+                // A malformed Range header is ignored rather than rejected
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fullStack.expenseTracker.dto.reponses.AggregateDriftReportDto;
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregateChangedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregatesResetEvent;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.repository.UserMonthlyAggregateRepository;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class MonthlyAggregateServiceImpl implements MonthlyAggregateService {
+
+    private static final double AMOUNT_TOLERANCE = 0.005;
+
+    private static final int MAX_DRIFT_SAMPLES = 100;
+
+    @Autowired
+    private UserMonthlyAggregateRepository aggregateRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransaction(Transaction transaction, int sign) {
+        if (transaction.getUser() == null || transaction.getCategory() == null) {
+            return;
+        }
+        recordDelta(
+                transaction.getUser().getId(),
+                transaction.getCategory().getTransactionType().getTransactionTypeId(),
+                transaction.getCategory().getCategoryId(),
+                transaction.getDate(),
+                sign * transaction.getAmount(),
+                sign
+        );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDelta(long userId, int transactionTypeId, int categoryId, LocalDate date, double amount, long count) {
+        if (date == null) {
+            // Undated rows never match a month in the raw reports either
+            return;
+        }
+        aggregateRepository.addToBucket(userId, date.getYear(), date.getMonthValue(), transactionTypeId, categoryId, amount, count);
+        dataVersionService.markChanged(userId);
+        applicationEventPublisher.publishEvent(new MonthlyAggregateChangedEvent(userId, transactionTypeId,
+                date.getMonthValue(), date.getYear(), amount));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeltas(AggregateDeltas deltas) {
+        for (AggregateDeltas.Bucket bucket : deltas.buckets()) {
+            recordDelta(bucket.userId(), bucket.transactionTypeId(), bucket.categoryId(), bucket.month().atDay(1),
+                    bucket.amount(), bucket.count());
+        }
+        // One budget check per touched (user, month) instead of one per row
+        for (AggregateDeltas.UserMonth userMonth : deltas.expenseMonths()) {
+            applicationEventPublisher.publishEvent(new BudgetEvaluationRequestedEvent(userMonth.userId(),
+                    userMonth.month().getMonthValue(), userMonth.month().getYear()));
+        }
+    }
+
+    @Override
+    public Double getTotalByTransactionType(long userId, int transactionTypeId, int month, int year) {
+        return aggregateRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, month, year);
+    }
+
+    @Override
+    public Integer getTotalNoOfTransactions(long userId, int month, int year) {
+        return aggregateRepository.findTotalNoOfTransactionsByUser(userId, month, year);
+    }
+
+    @Override
+    public Double getTotalByCategory(String email, int categoryId, int month, int year) {
+        return aggregateRepository.findTotalByUserAndCategory(email, categoryId, month, year);
+    }
+
+    @Override
+    public List<Object[]> getMonthlySummary(String email, LocalDate from) {
+        return aggregateRepository.findMonthlySummaryByUser(email, from.getYear(), from.getMonthValue());
+    }
+
+    @Override
+    public List<Object[]> getMonthlyTotalsByUsers(Collection<Long> userIds, int month, int year) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return aggregateRepository.findMonthlyTotalsByUsers(userIds, month, year);
+    }
+
+    @Override
+    @Transactional
+    public void retypeCategory(int categoryId, int transactionTypeId) {
+        aggregateRepository.retypeCategory(categoryId, transactionTypeId);
+        dataVersionService.markAllChanged();
+        applicationEventPublisher.publishEvent(new MonthlyAggregatesResetEvent(null));
+    }
+
+    @Override
+    @Transactional
+    public void deleteByUser(long userId) {
+        aggregateRepository.deleteByUserId(userId);
+        dataVersionService.markChanged(userId);
+        applicationEventPublisher.publishEvent(new MonthlyAggregatesResetEvent(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateDriftReportDto verify() {
+        return compare(false);
+    }
+
+    @Override
+    @Transactional
+    public AggregateDriftReportDto rebuild() {
+        AggregateDriftReportDto report = compare(true);
+        aggregateRepository.deleteAllRows();
+        aggregateRepository.insertFromTransactions();
+        dataVersionService.markAllChanged();
+        applicationEventPublisher.publishEvent(new MonthlyAggregatesResetEvent(null));
+        log.info("Rebuilt monthly aggregates: {} buckets checked, {} had drifted",
+                report.getCheckedBuckets(), report.getDriftedBuckets());
+        return report;
+    }
+
+    @Scheduled(cron = "${app.aggregates.verify-cron:-}")
+    public void scheduledVerify() {
+        AggregateDriftReportDto report = verify();
+        if (report.getDriftedBuckets() > 0) {
+            log.warn("Monthly aggregates drifted in {} of {} buckets, e.g. {}", report.getDriftedBuckets(),
+                    report.getCheckedBuckets(), report.getSamples().isEmpty() ? "-" : report.getSamples().get(0));
+        }
+    }
+
+    private AggregateDriftReportDto compare(boolean rebuilt) {
+        Map<String, Object[]> expected = new HashMap<>();
+        for (Object[] row : aggregateRepository.computeFromTransactions()) {
+            expected.put(key(row), row);
+        }
+
+        List<String> samples = new ArrayList<>();
+        int drifted = 0;
+        int checked = 0;
+
+        for (Object[] actual : aggregateRepository.findAllAsRows()) {
+            checked++;
+            String key = key(actual);
+            Object[] raw = expected.remove(key);
+            double rawAmount = raw == null ? 0 : ((Number) raw[5]).doubleValue();
+            long rawCount = raw == null ? 0 : ((Number) raw[6]).longValue();
+            double storedAmount = ((Number) actual[5]).doubleValue();
+            long storedCount = ((Number) actual[6]).longValue();
+
+            if (Math.abs(rawAmount - storedAmount) > AMOUNT_TOLERANCE || rawCount != storedCount) {
+                drifted++;
+                if (samples.size() < MAX_DRIFT_SAMPLES) {
+                    samples.add(key + " stored=" + storedAmount + "/" + storedCount + " actual=" + rawAmount + "/" + rawCount);
+                }
+            }
+        }
+
+        // Whatever is left exists in the raw data but has no aggregate row at all
+        for (Map.Entry<String, Object[]> missing : expected.entrySet()) {
+            checked++;
+            drifted++;
+            if (samples.size() < MAX_DRIFT_SAMPLES) {
+                samples.add(missing.getKey() + " missing, actual=" + missing.getValue()[5] + "/" + missing.getValue()[6]);
+            }
+        }
+
+        return new AggregateDriftReportDto(checked, drifted, samples, rebuilt);
+    }
+
+    private static String key(Object[] row) {
+        return "user=" + row[0] + " " + row[1] + "-" + row[2] + " type=" + row[3] + " category=" + row[4];
+    }
+}
@@ -0,0 +1,137 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.repository.SavedTransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
+import com.fullStack.expenseTracker.util.RecurrenceRule;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class RecurrenceIndexServiceImpl implements RecurrenceIndexService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    // Occurrences stepped over before the window opens, for plans left overdue for a long time
+    private static final int MAX_SKIPPED_OCCURRENCES = 10_000;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private SavedTransactionJdbcRepository savedTransactionJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Months past the current one that are indexed; the cash-flow projection reads up to twelve
+    @Value("${app.saved-transactions.occurrence-horizon-months:13}")
+    private int horizonMonths;
+
+    @Value("${app.saved-transactions.max-indexed-occurrences:400}")
+    private int maxIndexedOccurrences;
+
+    @Override
+    public void reindex(SavedTransaction plan) {
+        reindex(List.of(new PlanSchedule(plan, plan.getUpcomingDate())));
+    }
+
+    @Override
+    public void reindex(List<PlanSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+        LocalDate windowStart = LocalDate.now().withDayOfMonth(1);
+        LocalDate windowEnd = windowStart.plusMonths(horizonMonths + 1).minusDays(1);
+
+        List<Long> planIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (PlanSchedule schedule : schedules) {
+            SavedTransaction plan = schedule.plan();
+            planIds.add(plan.getPlanId());
+            for (LocalDate date : occurrences(plan, schedule.upcomingDate(), windowStart, windowEnd)) {
+                rows.add(new Object[]{plan.getPlanId(), date, plan.getUserId(), plan.getTransactionTypeId(),
+                        plan.getCategoryId(), plan.getAmount()});
+            }
+        }
+        savedTransactionJdbcRepository.replaceOccurrences(planIds, rows);
+    }
+
+    @Override
+    public int rebuild() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int plans = 0;
+        Page<SavedTransaction> batch;
+        int page = 0;
+        do {
+            PageRequest request = PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("planId"));
+            batch = transactionTemplate.execute(status -> {
+                Page<SavedTransaction> plansPage = savedTransactionRepository.findByUpcomingDateIsNotNull(request);
+                reindex(plansPage.getContent().stream().map(plan -> new PlanSchedule(plan, plan.getUpcomingDate())).toList());
+                return plansPage;
+            });
+            plans += batch.getNumberOfElements();
+        } while (batch.hasNext());
+        return plans;
+    }
+
+    @Scheduled(cron = "${app.saved-transactions.occurrence-refresh-cron:0 30 2 * * *}")
+    public void scheduledRebuild() {
+        try {
+            log.info("Refreshed the occurrence index for {} saved plans", rebuild());
+        } catch (DataAccessException e) {
+            log.error("Occurrence index refresh failed: " + e.getMessage());
+        }
+    }
+
+    // Plans saved before the index existed get indexed once; later starts keep what is there
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (!savedTransactionJdbcRepository.hasOccurrences()) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.error("Initial occurrence index build failed: " + e.getMessage());
+        }
+    }
+
+    private List<LocalDate> occurrences(SavedTransaction plan, LocalDate upcomingDate, LocalDate windowStart, LocalDate windowEnd) {
+        if (upcomingDate == null) {
+            return List.of();
+        }
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.forPlan(plan);
+        } catch (IllegalArgumentException e) {
+            log.warn("Saved transaction {} not indexed: {}", plan.getPlanId(), e.getMessage());
+            return List.of();
+        }
+        LocalDate first = upcomingDate;
+        for (int n = 0; first != null && first.isBefore(windowStart) && n < MAX_SKIPPED_OCCURRENCES; n++) {
+            first = rule.next(first);
+        }
+        return first == null || first.isBefore(windowStart)
+                ? List.of()
+                : rule.occurrences(first, windowEnd, maxIndexedOccurrences);
+    }
+}
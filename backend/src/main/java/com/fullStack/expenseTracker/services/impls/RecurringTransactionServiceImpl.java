@@ -0,0 +1,234 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.RecurringPostingStatsDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.repository.SavedTransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService.PlanSchedule;
+import com.fullStack.expenseTracker.services.RecurringTransactionService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+import com.fullStack.expenseTracker.util.RecurrenceRule;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class RecurringTransactionServiceImpl implements RecurringTransactionService, MeterBinder {
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private SavedTransactionJdbcRepository savedTransactionJdbcRepository;
+
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecurrenceIndexService recurrenceIndexService;
+
+    // Plans claimed, posted and committed together; keeps row locks short
+    @Value("${app.saved-transactions.batch-size:200}")
+    private int batchSize;
+
+    // Occurrences posted per plan and batch; a plan further behind is picked up again by the next batch
+    @Value("${app.saved-transactions.max-catch-up:400}")
+    private int maxCatchUp;
+
+    @Value("${app.saved-transactions.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    private final AtomicLong totalTransactions = new AtomicLong();
+
+    private volatile RecurringPostingStatsDto lastRun = new RecurringPostingStatsDto();
+
+    @Scheduled(fixedDelayString = "${app.saved-transactions.scheduler-interval-ms:60000}")
+    public void scheduledRun() {
+        try {
+            RecurringPostingStatsDto run = run(LocalDate.now());
+            if (run.getLastRunTransactions() > 0) {
+                log.info("Posted {} recurring transactions for {} saved plans", run.getLastRunTransactions(), run.getLastRunPlans());
+            }
+        } catch (DataAccessException e) {
+            log.error("Recurring transaction run failed: " + e.getMessage());
+        }
+    }
+
+    // Read from the last run's snapshot, so a scrape never queries the database
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("saved.transactions.backlog", this, service -> service.lastRun.getBacklog())
+                .description("Auto-post plans due today or earlier that were still unposted after the last run")
+                .register(registry);
+        TimeGauge.builder("saved.transactions.lag", this, TimeUnit.DAYS, service -> service.lastRun.getLagDays())
+                .description("Age of the oldest unposted occurrence after the last run")
+                .register(registry);
+        FunctionCounter.builder("saved.transactions.posted", totalTransactions, AtomicLong::get)
+                .description("Transactions posted from auto-post plans")
+                .register(registry);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> runNow() throws UserServiceLogicException {
+        try {
+            return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                    ApiResponseStatus.SUCCESS,
+                    HttpStatus.OK,
+                    run(LocalDate.now())
+            ));
+        } catch (DataAccessException e) {
+            log.error("Recurring transaction run failed: " + e.getMessage());
+            throw new UserServiceLogicException("Failed to post due transactions. Try again later");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                ApiResponseStatus.SUCCESS,
+                HttpStatus.OK,
+                withBacklog(lastRun, LocalDate.now())
+        ));
+    }
+
+    RecurringPostingStatsDto run(LocalDate today) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int plans = 0;
+        int posted = 0;
+        int suspended = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            BatchResult batch = transactionTemplate.execute(status -> postBatch(today));
+            plans += batch.plans();
+            posted += batch.transactions();
+            suspended += batch.suspended();
+            // A short batch means the backlog is drained; every claimed plan is either advanced or suspended,
+            // so a full batch never comes back unchanged
+            if (batch.claimed() < batchSize) {
+                break;
+            }
+        }
+
+        totalTransactions.addAndGet(posted);
+        lastRun = withBacklog(new RecurringPostingStatsDto(0, null, 0, Instant.now(), plans, posted, suspended, 0), today);
+        return lastRun;
+    }
+
+    private BatchResult postBatch(LocalDate today) {
+        List<SavedTransaction> due = savedTransactionRepository.claimDue(today, batchSize);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> advances = new ArrayList<>();
+        List<PlanSchedule> schedules = new ArrayList<>();
+        AggregateDeltas deltas = new AggregateDeltas();
+        // Left as they are these would be claimed first by every batch and eventually crowd out all others
+        List<Long> suspended = new ArrayList<>();
+
+        for (SavedTransaction plan : due) {
+            Category category;
+            try {
+                category = categoryService.getCategoryById(plan.getCategoryId());
+            } catch (CategoryNotFoundException e) {
+                log.warn("Saved transaction {} suspended from auto-posting: {}", plan.getPlanId(), e.getMessage());
+                suspended.add(plan.getPlanId());
+                continue;
+            }
+            RecurrenceRule rule;
+            try {
+                rule = RecurrenceRule.forPlan(plan);
+            } catch (IllegalArgumentException e) {
+                log.warn("Saved transaction {} suspended from auto-posting: {}", plan.getPlanId(), e.getMessage());
+                suspended.add(plan.getPlanId());
+                continue;
+            }
+            int typeId = category.getTransactionType().getTransactionTypeId();
+            boolean expense = category.getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_EXPENSE;
+
+            LocalDate date = plan.getUpcomingDate();
+            for (int n = 0; date != null && !date.isAfter(today) && n < maxCatchUp; n++) {
+                inserts.add(new Object[]{plan.getUserId(), plan.getCategoryId(), plan.getDescription(), plan.getAmount(), date});
+
+                deltas.add(plan.getUserId(), typeId, plan.getCategoryId(), expense, date, plan.getAmount(), 1);
+                date = rule.next(date);
+            }
+            advances.add(new Object[]{date, plan.getPlanId()});
+            schedules.add(new PlanSchedule(plan, date));
+        }
+
+        if (!inserts.isEmpty()) {
+            transactionJdbcRepository.insertAll(inserts);
+        }
+        if (!advances.isEmpty()) {
+            savedTransactionJdbcRepository.advanceAll(advances);
+            recurrenceIndexService.reindex(schedules);
+        }
+        if (!suspended.isEmpty()) {
+            savedTransactionJdbcRepository.disableAutoPostAll(suspended);
+        }
+        monthlyAggregateService.recordDeltas(deltas);
+
+        return new BatchResult(due.size(), advances.size(), inserts.size(), suspended.size());
+    }
+
+    private RecurringPostingStatsDto withBacklog(RecurringPostingStatsDto run, LocalDate today) {
+        List<Object[]> rows = savedTransactionRepository.findDueBacklog(today);
+        Object[] row = rows.isEmpty() ? new Object[]{0L, null} : rows.get(0);
+        long backlog = row[0] == null ? 0 : ((Number) row[0]).longValue();
+        LocalDate oldest = row[1] instanceof Date date ? date.toLocalDate() : (LocalDate) row[1];
+        return new RecurringPostingStatsDto(
+                backlog,
+                oldest,
+                oldest == null ? 0 : ChronoUnit.DAYS.between(oldest, today),
+                run.getLastRunAt(),
+                run.getLastRunPlans(),
+                run.getLastRunTransactions(),
+                run.getLastRunSuspendedPlans(),
+                totalTransactions.get()
+        );
+    }
+
+    private record BatchResult(int claimed, int plans, int transactions, int suspended) {
+    }
+}
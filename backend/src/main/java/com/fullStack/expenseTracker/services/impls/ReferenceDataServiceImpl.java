@@ -0,0 +1,153 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTypeRepository transactionTypeRepository;
+
+    // Replaced as a whole on every rebuild; readers never see a half-built view
+    private volatile Snapshot snapshot;
+
+    // A lock rather than synchronized: the rebuild queries the database and must not pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Override
+    public List<Category> getCategories() {
+        Category[] byId = snapshot().categoriesById();
+        List<Category> categories = new ArrayList<>();
+        for (Category category : byId) {
+            if (category != null) {
+                categories.add(copyOf(category));
+            }
+        }
+        return categories;
+    }
+
+    @Override
+    public Category findCategory(int categoryId) {
+        Category[] byId = snapshot().categoriesById();
+        return categoryId >= 0 && categoryId < byId.length && byId[categoryId] != null
+                ? copyOf(byId[categoryId])
+                : null;
+    }
+
+    @Override
+    public List<TransactionType> getTransactionTypes() {
+        TransactionType[] byId = snapshot().typesById();
+        List<TransactionType> types = new ArrayList<>();
+        for (TransactionType type : byId) {
+            if (type != null) {
+                types.add(copyOf(type));
+            }
+        }
+        return types;
+    }
+
+    @Override
+    public TransactionType findTransactionType(int transactionTypeId) {
+        TransactionType[] byId = snapshot().typesById();
+        return transactionTypeId >= 0 && transactionTypeId < byId.length && byId[transactionTypeId] != null
+                ? copyOf(byId[transactionTypeId])
+                : null;
+    }
+
+    @Override
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    // The data seeders run on context refresh, so by now the reference tables are populated
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    // Serialized so a slow rebuild can never overwrite the result of a later one
+    private Snapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            List<TransactionType> types = transactionTypeRepository.findAll();
+            List<Category> categories = categoryRepository.findAll();
+
+            TransactionType[] typesById = new TransactionType[maxId(types.stream().map(TransactionType::getTransactionTypeId).toList()) + 1];
+            for (TransactionType type : types) {
+                typesById[type.getTransactionTypeId()] = copyOf(type);
+            }
+
+            Category[] categoriesById = new Category[maxId(categories.stream().map(Category::getCategoryId).toList()) + 1];
+            for (Category category : categories) {
+                Category copy = copyOf(category);
+                // Share the snapshot's own type instances instead of the ones loaded with the category
+                copy.setTransactionType(typesById[category.getTransactionType().getTransactionTypeId()]);
+                categoriesById[category.getCategoryId()] = copy;
+            }
+
+            Snapshot rebuilt = new Snapshot(categoriesById, typesById);
+            snapshot = rebuilt;
+            log.debug("Reference data snapshot rebuilt: {} categories, {} transaction types", categories.size(), types.size());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static int maxId(List<Integer> ids) {
+        return ids.stream().max(Comparator.naturalOrder()).orElse(0);
+    }
+
+    private static Category copyOf(Category category) {
+        return new Category(
+                category.getCategoryId(),
+                category.getCategoryName(),
+                category.getTransactionType() == null ? null : copyOf(category.getTransactionType()),
+                category.isEnabled()
+        );
+    }
+
+    private static TransactionType copyOf(TransactionType type) {
+        return new TransactionType(type.getTransactionTypeId(), type.getTransactionTypeName());
+    }
+
+    // Both arrays are indexed by id; identity keys on these tables stay small and dense
+    private record Snapshot(Category[] categoriesById, TransactionType[] typesById) {
+    }
+}
@@ -3,7 +3,7 @@ package com.fullStack.expenseTracker.services.impls;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.dto.reponses.TransactionsMonthlySummaryDto;
-import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
 import com.fullStack.expenseTracker.services.ReportService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Component
@@ -18,14 +19,14 @@ import java.util.List;
 public class ReportServiceImpl implements ReportService {
 
     @Autowired
-    TransactionRepository transactionRepository;
+    MonthlyAggregateService monthlyAggregateService;
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalByTransactionTypeAndUser(Long userId, int transactionTypeId, int month, int year) {
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, month, year)
+                        monthlyAggregateService.getTotalByTransactionType(userId, transactionTypeId, month, year)
                 )
         );
     }
@@ -35,7 +36,7 @@ public class ReportServiceImpl implements ReportService {
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalNoOfTransactionsByUser(userId, month, year)
+                        monthlyAggregateService.getTotalNoOfTransactions(userId, month, year)
                 )
         );
     }
@@ -45,20 +46,21 @@ public class ReportServiceImpl implements ReportService {
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalByUserAndCategory(email, categoryId, month, year)
+                        monthlyAggregateService.getTotalByCategory(email, categoryId, month, year)
                 )
         );
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(String email) {
-        List<Object[]> result = transactionRepository.findMonthlySummaryByUser(email);
+        List<Object[]> result = monthlyAggregateService.getMonthlySummary(email, LocalDate.now().minusMonths(5));
 
         List<TransactionsMonthlySummaryDto> transactionsMonthlySummary = result.stream()
                 .map(data -> new TransactionsMonthlySummaryDto(
-                        (int) data[0],
-                        (double) data[1],
-                        (double) data[2]
+                        ((Number) data[0]).intValue(),
+                        ((Number) data[1]).intValue(),
+                        ((Number) data[2]).doubleValue(),
+                        ((Number) data[3]).doubleValue()
                 )).toList();
 
         return ResponseEntity.status(HttpStatus.OK).body(
@@ -68,4 +70,24 @@ public class ReportServiceImpl implements ReportService {
                 )
         );
     }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> verifyAggregates() {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        monthlyAggregateService.verify()
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> rebuildAggregates() {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        monthlyAggregateService.rebuild()
+                )
+        );
+    }
 }
@@ -1,10 +1,13 @@
 package com.fullStack.expenseTracker.services.impls;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CashFlowMonthDto;
 import com.fullStack.expenseTracker.dto.reponses.SavedTransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
@@ -15,16 +18,25 @@ import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
+import com.fullStack.expenseTracker.util.RecurrenceRule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,14 +55,27 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private RecurrenceIndexService recurrenceIndexService;
+
+    // Months covered by the cash-flow projection, starting with the current one
+    private static final int PROJECTION_MONTHS = 12;
+
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> createSavedTransaction(SavedTransactionRequestDto requestDto)
             throws UserServiceLogicException, UserNotFoundException {
         try {
             if (userRepository.existsById(requestDto.getUserId())) {
                 SavedTransaction plannedTransaction = savedTransactionDtoToEntity(requestDto);
-                savedTransactionRepository.save(plannedTransaction);
+                recurrenceIndexService.reindex(savedTransactionRepository.save(plannedTransaction));
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -67,19 +92,26 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId)
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (savedTransactionRepository.existsById(savedTransactionId)) {
-                SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId)
-                        .orElse(null);
-
-                transactionRepository.save(savedTransactionToTransaction(plannedTransaction));
+            SavedTransaction plannedTransaction = savedTransactionRepository.findByIdForUpdate(savedTransactionId)
+                    .orElse(null);
+            if (plannedTransaction != null) {
+                Transaction transaction = transactionRepository.save(savedTransactionToTransaction(plannedTransaction));
+                monthlyAggregateService.recordTransaction(transaction, 1);
+                if (transaction.getDate() != null
+                        && transaction.getCategory().getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_EXPENSE) {
+                    applicationEventPublisher.publishEvent(new BudgetEvaluationRequestedEvent(transaction.getUser().getId(),
+                            transaction.getDate().getMonthValue(), transaction.getDate().getYear()));
+                }
 
-                LocalDate upcomingDate = getUpcomingDate(plannedTransaction.getFrequency(), plannedTransaction.getUpcomingDate());
+                LocalDate upcomingDate = getUpcomingDate(plannedTransaction);
 
                 plannedTransaction.setUpcomingDate(upcomingDate);
                 savedTransactionRepository.save(plannedTransaction);
+                recurrenceIndexService.reindex(plannedTransaction);
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -96,21 +128,25 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> editSavedTransaction(long plannedTransactionId, SavedTransactionRequestDto requestDto)
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (savedTransactionRepository.existsById(plannedTransactionId)) {
-                SavedTransaction plannedTransaction = savedTransactionRepository.findById(plannedTransactionId)
-                        .orElse(null);
-
+            SavedTransaction plannedTransaction = savedTransactionRepository.findByIdForUpdate(plannedTransactionId)
+                    .orElse(null);
+            if (plannedTransaction != null) {
                 plannedTransaction.setTransactionTypeId(categoryService.getCategoryById(requestDto.getCategoryId()).getTransactionType().getTransactionTypeId());
                 plannedTransaction.setAmount(requestDto.getAmount());
                 plannedTransaction.setDescription(requestDto.getDescription());
                 plannedTransaction.setFrequency(requestDto.getFrequency());
+                plannedTransaction.setRecurrenceRule(requestDto.getRecurrenceRule());
                 plannedTransaction.setUpcomingDate(requestDto.getUpcomingDate());
                 plannedTransaction.setCategoryId(requestDto.getCategoryId());
+                plannedTransaction.setAutoPost(requestDto.isAutoPost());
+                validateRecurrenceRule(plannedTransaction);
 
                 savedTransactionRepository.save(plannedTransaction);
+                recurrenceIndexService.reindex(plannedTransaction);
 
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -149,16 +185,17 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (savedTransactionRepository.existsById(savedTransactionId)) {
-                SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId)
-                        .orElse(null);
-
-                LocalDate upcomingDate = getUpcomingDate(plannedTransaction.getFrequency(), plannedTransaction.getUpcomingDate());
+            SavedTransaction plannedTransaction = savedTransactionRepository.findByIdForUpdate(savedTransactionId)
+                    .orElse(null);
+            if (plannedTransaction != null) {
+                LocalDate upcomingDate = getUpcomingDate(plannedTransaction);
 
                 plannedTransaction.setUpcomingDate(upcomingDate);
                 savedTransactionRepository.save(plannedTransaction);
+                recurrenceIndexService.reindex(plannedTransaction);
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -178,12 +215,10 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUser(long userId) throws UserServiceLogicException, UserNotFoundException {
         try {
             if (userRepository.existsById(userId)) {
-                List<SavedTransaction> transactions = savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(userId);
-
                 List<SavedTransactionResponseDto> response = new ArrayList<>();
 
-                for (SavedTransaction t: transactions) {
-                    response.add(savedTransactionToDto(t));
+                for (Object[] row: savedTransactionRepository.findViewsByUserId(userId)) {
+                    response.add(savedTransactionRowToDto(row));
                 }
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -194,7 +229,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                 );
 
             }
-        } catch (CategoryNotFoundException | org.springframework.dao.DataAccessException | IllegalArgumentException | NullPointerException e) {
+        } catch (org.springframework.dao.DataAccessException | IllegalArgumentException | NullPointerException e) {
             log.error(e.getMessage());
             throw new UserServiceLogicException("Failed to fetch transactions. Try again later");
         }
@@ -202,17 +237,18 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId) throws UserServiceLogicException, UserNotFoundException {
+    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId, Integer month, Integer year)
+            throws UserServiceLogicException, UserNotFoundException {
         try {
             if (userRepository.existsById(userId)) {
-                List<SavedTransaction> transactions = savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(userId).stream()
-                        .filter(t -> t.getUpcomingDate().getMonthValue() == LocalDate.now().getMonthValue())
-                        .toList();
+                LocalDate today = LocalDate.now();
+                LocalDate monthStart = LocalDate.of(year == null ? today.getYear() : year,
+                        month == null ? today.getMonthValue() : month, 1);
 
                 List<SavedTransactionResponseDto> response = new ArrayList<>();
 
-                for (SavedTransaction t: transactions) {
-                    response.add(savedTransactionToDto(t));
+                for (Object[] row: savedTransactionRepository.findViewsByUserIdDueBetween(userId, monthStart, monthStart.plusMonths(1))) {
+                    response.add(savedTransactionRowToDto(row));
                 }
 
                 return ResponseEntity.status(HttpStatus.OK).body(
@@ -224,12 +260,55 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                 );
 
             }
-        } catch (CategoryNotFoundException | org.springframework.dao.DataAccessException | IllegalArgumentException | NullPointerException e) {
+        } catch (DateTimeException e) {
+            throw new UserServiceLogicException("Invalid month or year: " + e.getMessage());
+        } catch (org.springframework.dao.DataAccessException | IllegalArgumentException | NullPointerException e) {
             throw new UserServiceLogicException("Failed to fetch transactions. Try again later");
         }
         throw new UserNotFoundException("User not found with id: " + userId);
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getCashFlowProjection(long userId) throws UserServiceLogicException, UserNotFoundException {
+        try {
+            if (userRepository.existsById(userId)) {
+                YearMonth first = YearMonth.now();
+                List<CashFlowMonthDto> months = new ArrayList<>();
+                for (int i = 0; i < PROJECTION_MONTHS; i++) {
+                    YearMonth month = first.plusMonths(i);
+                    months.add(new CashFlowMonthDto(month.getYear(), month.getMonthValue(), 0, 0, 0, 0));
+                }
+
+                for (Object[] row : savedTransactionRepository.projectMonthlyTotals(userId, first.atDay(1),
+                        first.plusMonths(PROJECTION_MONTHS).atDay(1))) {
+                    int index = (int) first.until(YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()),
+                            ChronoUnit.MONTHS);
+                    CashFlowMonthDto month = months.get(index);
+                    double amount = ((Number) row[3]).doubleValue();
+                    if (ETransactionType.TYPE_EXPENSE.name().equals(row[2])) {
+                        month.setExpense(month.getExpense() + amount);
+                    } else {
+                        month.setIncome(month.getIncome() + amount);
+                    }
+                    month.setNet(month.getIncome() - month.getExpense());
+                    month.setOccurrences(month.getOccurrences() + ((Number) row[4]).longValue());
+                }
+
+                return ResponseEntity.status(HttpStatus.OK).body(
+                        new ApiResponseDto<>(
+                                ApiResponseStatus.SUCCESS,
+                                HttpStatus.OK,
+                                months
+                        )
+                );
+            }
+        } catch (org.springframework.dao.DataAccessException e) {
+            log.error(e.getMessage());
+            throw new UserServiceLogicException("Failed to project cash flow. Try again later");
+        }
+        throw new UserNotFoundException("User not found with id: " + userId);
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getSavedTransactionById(long savedTransactionId)
             throws UserServiceLogicException, TransactionNotFoundException {
@@ -254,7 +333,8 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @NonNull
-    private SavedTransaction savedTransactionDtoToEntity(SavedTransactionRequestDto requestDto) throws CategoryNotFoundException {
+    private SavedTransaction savedTransactionDtoToEntity(SavedTransactionRequestDto requestDto)
+            throws CategoryNotFoundException, UserServiceLogicException {
         SavedTransaction savedTransaction = new SavedTransaction();
         savedTransaction.setTransactionTypeId(categoryService.getCategoryById(requestDto.getCategoryId()).getTransactionType().getTransactionTypeId());
         savedTransaction.setCategoryId(requestDto.getCategoryId());
@@ -263,9 +343,21 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         savedTransaction.setDescription(requestDto.getDescription());
         savedTransaction.setUpcomingDate(requestDto.getUpcomingDate());
         savedTransaction.setFrequency(requestDto.getFrequency());
+        savedTransaction.setRecurrenceRule(requestDto.getRecurrenceRule());
+        savedTransaction.setAutoPost(requestDto.isAutoPost());
+        validateRecurrenceRule(savedTransaction);
         return savedTransaction;
     }
 
+    // Rejects an unparseable rule before it is stored, telling the caller what is wrong with it
+    private void validateRecurrenceRule(SavedTransaction plan) throws UserServiceLogicException {
+        try {
+            RecurrenceRule.forPlan(plan);
+        } catch (IllegalArgumentException e) {
+            throw new UserServiceLogicException(e.getMessage());
+        }
+    }
+
     @NonNull
     private Transaction savedTransactionToTransaction(SavedTransaction savedTransaction)
             throws CategoryNotFoundException {
@@ -278,51 +370,48 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         );
     }
 
-    private LocalDate getUpcomingDate(ETransactionFrequency frequency, LocalDate currentDate) {
-        if (frequency == ETransactionFrequency.DAILY) {
-            return currentDate.plusDays(1);
-        }
-        if (frequency == ETransactionFrequency.MONTHLY) {
-            return currentDate.plusMonths(1);
-        }
-        return null;
+    private LocalDate getUpcomingDate(SavedTransaction plan) {
+        return RecurrenceRule.forPlan(plan).next(plan.getUpcomingDate());
     }
 
-    private SavedTransactionResponseDto savedTransactionToDto(SavedTransaction savedTransaction)
-            throws CategoryNotFoundException {
+    private SavedTransactionResponseDto savedTransactionRowToDto(Object[] row) {
+        ETransactionFrequency frequency = row[5] == null ? null : ETransactionFrequency.valueOf((String) row[5]);
+        LocalDate upcomingDate = row[8] instanceof Date date ? date.toLocalDate() : (LocalDate) row[8];
         return new SavedTransactionResponseDto(
-                savedTransaction.getPlanId(),
-                savedTransaction.getTransactionTypeId(),
-                categoryService.getCategoryById(savedTransaction.getCategoryId()).getCategoryName(),
-                savedTransaction.getAmount(),
-                savedTransaction.getDescription(),
-                savedTransaction.getFrequency(),
-                getDueInformation(savedTransaction)
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).intValue(),
+                (String) row[2],
+                ((Number) row[3]).doubleValue(),
+                (String) row[4],
+                frequency,
+                (String) row[6],
+                row[7] instanceof Boolean autoPost ? autoPost : ((Number) row[7]).intValue() == 1,
+                getDueInformation(upcomingDate, frequency)
         );
     }
 
-    private String getDueInformation(SavedTransaction transaction) {
-        if (transaction.getUpcomingDate() == null) return null;
-        if (transaction.getUpcomingDate().equals(LocalDate.now()))
+    String getDueInformation(LocalDate upcomingDate, ETransactionFrequency frequency) {
+        if (upcomingDate == null) return null;
+        if (upcomingDate.equals(LocalDate.now()))
             return "Due on Today";
-        if (transaction.getUpcomingDate().equals(LocalDate.now().plusDays(1)))
+        if (upcomingDate.equals(LocalDate.now().plusDays(1)))
             return "Due on Tomorrow";
-        if (transaction.getUpcomingDate().equals(LocalDate.now().plusDays(2)))
+        if (upcomingDate.equals(LocalDate.now().plusDays(2)))
             return "Due on a day after tomorrow";
-        if (transaction.getFrequency() == ETransactionFrequency.MONTHLY && transaction.getUpcomingDate().isBefore(LocalDate.now())) {
-            Period period = Period.between(transaction.getUpcomingDate(), LocalDate.now());
+        if (frequency == ETransactionFrequency.MONTHLY && upcomingDate.isBefore(LocalDate.now())) {
+            Period period = Period.between(upcomingDate, LocalDate.now());
             if (period.getMonths() >= 0 && period.getDays() > 0)
                 return period.getMonths() + 1 + " Months over due";
             return period.getMonths() + " Months over due";
         }
-        if (transaction.getUpcomingDate().equals(LocalDate.now().minusDays(1)))
+        if (upcomingDate.equals(LocalDate.now().minusDays(1)))
             return "1 day overdue";
-        if (transaction.getUpcomingDate().isBefore(LocalDate.now())){
-            Period period = Period.between(transaction.getUpcomingDate(), LocalDate.now());
+        if (upcomingDate.isBefore(LocalDate.now())){
+            Period period = Period.between(upcomingDate, LocalDate.now());
             long days =period.getYears()* 365L + period.getMonths()* 30L + period.getDays();
             return days + " days overdue";
         }
-        return "Due on " + transaction.getUpcomingDate();
+        return "Due on " + upcomingDate;
 
     }
 }
@@ -0,0 +1,275 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.SlowQueryDto;
+import com.fullStack.expenseTracker.dto.reponses.SqlEndpointStatsDto;
+import com.fullStack.expenseTracker.dto.reponses.SqlStatisticsDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.services.SqlStatisticsService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Receives every statement from the proxied DataSource (see SqlMonitoringConfig). Counting only touches
+ * the current request's own state; the shared aggregates are updated once when the request ends.
+ */
+@Component
+@Slf4j
+public class SqlStatisticsServiceImpl implements SqlStatisticsService, QueryExecutionListener, MeterBinder {
+
+    // SQL texts kept per request for naming the most repeated statement; counting continues past it
+    private static final int MAX_TRACKED_STATEMENTS = 500;
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    @Value("${app.sql.statement-budget:25}")
+    private int statementBudget;
+
+    @Value("${app.sql.slow-query-ms:250}")
+    private long slowQueryMs;
+
+    @Value("${app.sql.slow-query-history:100}")
+    private int slowQueryHistory;
+
+    private final ThreadLocal<RequestSql> currentRequest = new ThreadLocal<>();
+
+    private final Map<String, EndpointSql> endpoints = new ConcurrentHashMap<>();
+
+    private final Function<String, EndpointSql> newEndpoint = endpoint -> new EndpointSql();
+
+    // Guarded by itself; newest first
+    private final Deque<SlowQueryDto> slowQueries = new ArrayDeque<>();
+
+    private final LongAdder overBudgetRequests = new LongAdder();
+
+    private final LongAdder slowQueryCount = new LongAdder();
+
+    private volatile Instant since = Instant.now();
+
+    @Override
+    public void beginRequest(String method, String uri) {
+        currentRequest.set(new RequestSql(method, uri));
+    }
+
+    @Override
+    public void endRequest(String endpoint) {
+        RequestSql request = currentRequest.get();
+        currentRequest.remove();
+        if (request == null || endpoint == null) {
+            return;
+        }
+        boolean overBudget = request.statements > statementBudget;
+        endpoints.computeIfAbsent(endpoint, newEndpoint).record(request, overBudget);
+        if (overBudget) {
+            overBudgetRequests.increment();
+            Repeated repeated = request.mostRepeated();
+            log.warn("{} ran {} SQL statements, over the budget of {}; repeated {} times: {}",
+                    endpoint, request.statements, statementBudget, repeated.count(), repeated.sql());
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestSql request = currentRequest.get();
+        if (request != null) {
+            request.add(queryInfoList, execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() >= slowQueryMs) {
+            recordSlowQuery(request, execInfo, queryInfoList);
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getStatistics() {
+        List<SqlEndpointStatsDto> endpointStats = new ArrayList<>();
+        endpoints.forEach((endpoint, stats) -> endpointStats.add(stats.toDto(endpoint)));
+        endpointStats.sort(Comparator.comparingDouble(SqlEndpointStatsDto::getAverageStatements).reversed());
+
+        List<SlowQueryDto> slow;
+        synchronized (slowQueries) {
+            slow = new ArrayList<>(slowQueries);
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                ApiResponseStatus.SUCCESS,
+                HttpStatus.OK,
+                new SqlStatisticsDto(since, statementBudget, slowQueryMs, endpointStats, slow)
+        ));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> resetStatistics() {
+        endpoints.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+        since = Instant.now();
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                ApiResponseStatus.SUCCESS,
+                HttpStatus.OK,
+                "SQL statistics have been reset!"
+        ));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("sql.requests.over.budget", overBudgetRequests, LongAdder::sum)
+                .description("HTTP requests that ran more SQL statements than app.sql.statement-budget")
+                .register(registry);
+        FunctionCounter.builder("sql.slow.queries", slowQueryCount, LongAdder::sum)
+                .description("Statements slower than app.sql.slow-query-ms")
+                .register(registry);
+    }
+
+    private void recordSlowQuery(RequestSql request, ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        slowQueryCount.increment();
+        StringBuilder sql = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        for (QueryInfo query : queryInfoList) {
+            if (!sql.isEmpty()) {
+                sql.append("; ");
+            }
+            sql.append(query.getQuery());
+            for (List<ParameterSetOperation> parameterSet : query.getParametersList()) {
+                appendParameters(parameters, parameterSet);
+            }
+        }
+        String endpoint = request == null ? null : request.method + " " + request.uri;
+        log.warn("Slow SQL ({} ms){}: {} {}", execInfo.getElapsedTime(),
+                endpoint == null ? "" : " in " + endpoint, sql, parameters);
+
+        SlowQueryDto slowQuery = new SlowQueryDto(Instant.now(), endpoint, execInfo.getElapsedTime(),
+                sql.toString(), parameters.toString());
+        synchronized (slowQueries) {
+            slowQueries.addFirst(slowQuery);
+            while (slowQueries.size() > slowQueryHistory) {
+                slowQueries.removeLast();
+            }
+        }
+    }
+
+    // [1=foo, 2=42] per execution; args are (index or name, value, ...) as passed to the setter
+    private static void appendParameters(StringBuilder out, List<ParameterSetOperation> parameterSet) {
+        out.append('[');
+        boolean first = true;
+        for (ParameterSetOperation operation : parameterSet) {
+            Object[] args = operation.getArgs();
+            if (args == null || args.length == 0) {
+                continue;
+            }
+            if (!first) {
+                out.append(", ");
+            }
+            first = false;
+            out.append(args[0]).append('=');
+            String value = ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2
+                    ? "null"
+                    : String.valueOf(args[1]);
+            out.append(value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value);
+        }
+        out.append(']');
+    }
+
+    private record Repeated(String sql, int count) {
+    }
+
+    // Only ever touched by the request's own thread
+    private static final class RequestSql {
+
+        private final String method;
+
+        private final String uri;
+
+        private final List<String> statementTexts = new ArrayList<>();
+
+        private int statements;
+
+        private long elapsedMs;
+
+        RequestSql(String method, String uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        void add(List<QueryInfo> queryInfoList, long elapsed) {
+            statements++;
+            elapsedMs += elapsed;
+            if (statementTexts.size() < MAX_TRACKED_STATEMENTS && !queryInfoList.isEmpty()) {
+                statementTexts.add(queryInfoList.get(0).getQuery());
+            }
+        }
+
+        Repeated mostRepeated() {
+            Map<String, Integer> counts = new HashMap<>();
+            Repeated top = new Repeated(null, 0);
+            for (String sql : statementTexts) {
+                int count = counts.merge(sql, 1, Integer::sum);
+                if (count > top.count()) {
+                    top = new Repeated(sql, count);
+                }
+            }
+            return top;
+        }
+    }
+
+    private static final class EndpointSql {
+
+        private long requests;
+
+        private long statements;
+
+        private int maxStatements;
+
+        private long overBudgetRequests;
+
+        private long elapsedMs;
+
+        private Repeated worst = new Repeated(null, 0);
+
+        synchronized void record(RequestSql request, boolean overBudget) {
+            requests++;
+            statements += request.statements;
+            elapsedMs += request.elapsedMs;
+            if (overBudget) {
+                overBudgetRequests++;
+            }
+            if (request.statements > maxStatements) {
+                maxStatements = request.statements;
+                worst = request.mostRepeated();
+            }
+        }
+
+        synchronized SqlEndpointStatsDto toDto(String endpoint) {
+            return new SqlEndpointStatsDto(endpoint, requests, statements,
+                    requests == 0 ? 0 : (double) statements / requests, maxStatements, overBudgetRequests,
+                    elapsedMs, worst.sql(), worst.count());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionBatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionBatchResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchOperationDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionBatchAction;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
+import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.TransactionBatchService;
+import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class TransactionBatchServiceImpl implements TransactionBatchService {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.transaction.batch.max-operations:500}")
+    private int maxOperations;
+
+    /**
+     * Operations are checked in request order against an in-memory view of the rows they touch, then
+     * written as one JDBC batch per action. Failed operations are reported and skipped; the others
+     * commit together.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> processBatch(TransactionBatchRequestDto batchRequestDto)
+            throws TransactionServiceLogicException {
+
+        List<TransactionBatchOperationDto> operations = batchRequestDto.getOperations();
+        if (operations.size() > maxOperations) {
+            throw new TransactionServiceLogicException("A batch can hold at most " + maxOperations + " operations!");
+        }
+
+        Batch batch = new Batch(loadRows(operations));
+        for (int i = 0; i < operations.size(); i++) {
+            TransactionBatchOperationDto operation = operations.get(i);
+            try {
+                batch.apply(i, operation);
+            } catch (TransactionNotFoundException | CategoryNotFoundException | UserNotFoundException | InvalidOperationException e) {
+                batch.results.add(new TransactionBatchItemResultDto(i, operation.getAction(), operation.getTransactionId(),
+                        ApiResponseStatus.FAILED, e.getMessage()));
+            }
+        }
+
+        try {
+            batch.write();
+        } catch (DataAccessException e) {
+            log.error("Error happen when writing a transaction batch: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to save your transactions! Try again later");
+        }
+
+        monthlyAggregateService.recordDeltas(batch.deltas);
+
+        int failed = (int) batch.results.stream().filter(result -> result.getStatus() == ApiResponseStatus.FAILED).count();
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(
+                        ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        new TransactionBatchResponseDto(batch.results.size() - failed, failed, batch.results)
+                )
+        );
+    }
+
+    private Map<Long, RowState> loadRows(List<TransactionBatchOperationDto> operations) {
+        Set<Long> ids = operations.stream()
+                .filter(operation -> operation.getAction() != ETransactionBatchAction.CREATE && operation.getTransactionId() != null)
+                .map(TransactionBatchOperationDto::getTransactionId)
+                .collect(Collectors.toSet());
+
+        Map<Long, RowState> rows = new HashMap<>();
+        if (ids.isEmpty()) {
+            return rows;
+        }
+        for (Object[] row : transactionRepository.findWriteStateByIdIn(ids)) {
+            rows.put(((Number) row[0]).longValue(), new RowState(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(),
+                    ETransactionType.TYPE_EXPENSE.name().equals(row[4]),
+                    toLocalDate(row[5]),
+                    ((Number) row[6]).doubleValue()));
+        }
+        return rows;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private final class Batch {
+
+        private final Map<Long, RowState> rows;
+
+        private final Map<String, Long> userIds = new HashMap<>();
+
+        private final List<TransactionBatchItemResultDto> results = new ArrayList<>();
+
+        private final List<Object[]> inserts = new ArrayList<>();
+
+        private final List<TransactionBatchItemResultDto> insertResults = new ArrayList<>();
+
+        private final List<Object[]> updates = new ArrayList<>();
+
+        private final List<Long> deletes = new ArrayList<>();
+
+        private final AggregateDeltas deltas = new AggregateDeltas();
+
+        Batch(Map<Long, RowState> rows) {
+            this.rows = rows;
+        }
+
+        void apply(int index, TransactionBatchOperationDto operation)
+                throws TransactionNotFoundException, CategoryNotFoundException, UserNotFoundException {
+            if (operation.getAction() == null) {
+                throw new InvalidOperationException("Action is required!");
+            }
+
+            switch (operation.getAction()) {
+                case CREATE -> {
+                    TransactionRequestDto dto = requireValid(operation.getTransaction());
+                    RowState created = toRowState(dto);
+                    inserts.add(new Object[]{created.userId(), created.categoryId(), dto.getDescription(), created.amount(), created.date()});
+                    record(created, 1);
+
+                    TransactionBatchItemResultDto result = new TransactionBatchItemResultDto(index, operation.getAction(), null,
+                            ApiResponseStatus.SUCCESS, "Transaction has been successfully recorded!");
+                    insertResults.add(result);
+                    results.add(result);
+                }
+                case UPDATE -> {
+                    RowState previous = existing(operation.getTransactionId());
+                    TransactionRequestDto dto = requireValid(operation.getTransaction());
+                    RowState updated = toRowState(dto);
+                    updates.add(new Object[]{updated.userId(), updated.categoryId(), dto.getDescription(), updated.amount(),
+                            updated.date(), operation.getTransactionId()});
+                    record(previous, -1);
+                    record(updated, 1);
+                    rows.put(operation.getTransactionId(), updated);
+
+                    results.add(new TransactionBatchItemResultDto(index, operation.getAction(), operation.getTransactionId(),
+                            ApiResponseStatus.SUCCESS, "Transaction has been successfully updated!"));
+                }
+                case DELETE -> {
+                    RowState previous = existing(operation.getTransactionId());
+                    deletes.add(operation.getTransactionId());
+                    record(previous, -1);
+                    rows.remove(operation.getTransactionId());
+
+                    results.add(new TransactionBatchItemResultDto(index, operation.getAction(), operation.getTransactionId(),
+                            ApiResponseStatus.SUCCESS, "Transaction has been successfully deleted!"));
+                }
+            }
+        }
+
+        void write() {
+            if (!inserts.isEmpty()) {
+                long[] keys = transactionJdbcRepository.insertAllReturningKeys(inserts);
+                for (int i = 0; i < keys.length; i++) {
+                    insertResults.get(i).setTransactionId(keys[i]);
+                }
+            }
+            if (!updates.isEmpty()) {
+                transactionJdbcRepository.updateAll(updates);
+            }
+            if (!deletes.isEmpty()) {
+                transactionJdbcRepository.deleteAllById(deletes);
+            }
+        }
+
+        private RowState existing(Long transactionId) throws TransactionNotFoundException {
+            if (transactionId == null) {
+                throw new InvalidOperationException("Transaction id is required!");
+            }
+            RowState row = rows.get(transactionId);
+            if (row == null) {
+                throw new TransactionNotFoundException("Transaction not found with id : " + transactionId);
+            }
+            return row;
+        }
+
+        private RowState toRowState(TransactionRequestDto dto) throws CategoryNotFoundException, UserNotFoundException {
+            Category category = categoryService.getCategoryById(dto.getCategoryId());
+            Long userId = userIds.get(dto.getUserEmail());
+            if (userId == null) {
+                userId = userService.findByEmail(dto.getUserEmail()).getId();
+                userIds.put(dto.getUserEmail(), userId);
+            }
+            return new RowState(userId, category.getCategoryId(), category.getTransactionType().getTransactionTypeId(),
+                    category.getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_EXPENSE,
+                    dto.getDate(), dto.getAmount());
+        }
+
+        private void record(RowState row, int sign) {
+            deltas.add(row.userId(), row.transactionTypeId(), row.categoryId(), row.expense(), row.date(),
+                    sign * row.amount(), sign);
+        }
+    }
+
+    private TransactionRequestDto requireValid(TransactionRequestDto dto) {
+        if (dto == null) {
+            throw new InvalidOperationException("Transaction details are required!");
+        }
+        Set<ConstraintViolation<TransactionRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new InvalidOperationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+        return dto;
+    }
+
+    private record RowState(long userId, int categoryId, int transactionTypeId, boolean expense, LocalDate date, double amount) {
+    }
+
+    private static final class InvalidOperationException extends RuntimeException {
+        InvalidOperationException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ImportRowErrorDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionImportResultDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.EImportFormat;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+import com.fullStack.expenseTracker.services.TransactionImportService;
+import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+import com.fullStack.expenseTracker.util.TransactionImportReader;
+import com.fullStack.expenseTracker.util.TransactionImportReader.ImportRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final int MAX_DESCRIPTION = 50;
+
+    private static final String DEFAULT_CATEGORY = "other";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    // Rows per JDBC batch; with rewriteBatchedStatements each batch is sent as one multi-row INSERT
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> importTransactions(String email, MultipartFile file, EImportFormat format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        User user = userService.findByEmail(email);
+
+        EImportFormat resolvedFormat = format != null ? format : EImportFormat.fromFilename(file.getOriginalFilename());
+        if (resolvedFormat == null) {
+            throw new TransactionServiceLogicException("Unsupported file type, upload a CSV, OFX or NDJSON file!");
+        }
+
+        Categories categories = new Categories(referenceDataService.getCategories());
+        ImportRun run = new ImportRun(user.getId());
+
+        try (TransactionImportReader reader = TransactionImportReader.open(resolvedFormat, file.getInputStream())) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                run.rowsRead++;
+                try {
+                    run.add(validate(record, categories));
+                } catch (RowRejectedException e) {
+                    run.reject(record.row(), e.getMessage());
+                }
+            }
+            run.flush();
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException(e.getMessage());
+        } catch (IOException e) {
+            log.error("Failed to read transaction import for {}: {}", email, e.getMessage());
+            throw new TransactionServiceLogicException("Failed to read the uploaded file, Try again later!");
+        }
+
+        monthlyAggregateService.recordDeltas(run.deltas);
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(
+                        ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        new TransactionImportResultDto(resolvedFormat, run.rowsRead, run.imported, run.rejected, run.errors)
+                )
+        );
+    }
+
+    private ValidRow validate(ImportRecord record, Categories categories) {
+        if (record.error() != null) {
+            throw new RowRejectedException(record.error());
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(required(record.date(), "date"));
+        } catch (DateTimeParseException e) {
+            throw new RowRejectedException("Invalid date '" + record.date() + "', expected yyyy-MM-dd");
+        }
+
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(required(record.amount(), "amount"));
+        } catch (NumberFormatException e) {
+            throw new RowRejectedException("Invalid amount '" + record.amount() + "'");
+        }
+        if (amount.signum() == 0) {
+            throw new RowRejectedException("Amount must not be zero");
+        }
+
+        String description = record.description() == null ? "" : record.description().trim();
+        if (description.length() > MAX_DESCRIPTION) {
+            throw new RowRejectedException("Description can have atmost " + MAX_DESCRIPTION + " characters");
+        }
+
+        Category category = categories.resolve(record, amount.signum() < 0);
+        return new ValidRow(category, description, amount.abs().doubleValue(), date);
+    }
+
+    private static String required(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new RowRejectedException("Missing " + field);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Category lookups for one import, built from the reference snapshot. Rows without a category
+     * fall back to the "Other" category of their type; the type comes from the row, the category or
+     * the sign of the amount, in that order.
+     */
+    private static final class Categories {
+
+        private final Map<Integer, Category> byId = new HashMap<>();
+
+        private final Map<String, List<Category>> byName = new HashMap<>();
+
+        private final Map<String, Integer> typeIdsByName = new HashMap<>();
+
+        private Integer expenseTypeId;
+
+        private Integer incomeTypeId;
+
+        Categories(List<Category> categories) {
+            for (Category category : categories) {
+                byId.put(category.getCategoryId(), category);
+                byName.computeIfAbsent(key(category.getCategoryName()), k -> new ArrayList<>()).add(category);
+
+                ETransactionType type = category.getTransactionType().getTransactionTypeName();
+                int typeId = category.getTransactionType().getTransactionTypeId();
+                typeIdsByName.put(key(type.name()), typeId);
+                typeIdsByName.put(key(type.name().replaceFirst("^TYPE_", "")), typeId);
+                if (type == ETransactionType.TYPE_EXPENSE) {
+                    expenseTypeId = typeId;
+                } else if (type == ETransactionType.TYPE_INCOME) {
+                    incomeTypeId = typeId;
+                }
+            }
+        }
+
+        Category resolve(ImportRecord record, boolean negative) {
+            Integer typeId = null;
+            if (record.transactionType() != null && !record.transactionType().isBlank()) {
+                typeId = typeIdsByName.get(key(record.transactionType()));
+                if (typeId == null) {
+                    throw new RowRejectedException("Unknown transaction type '" + record.transactionType() + "'");
+                }
+            }
+
+            if (record.categoryId() != null && !record.categoryId().isBlank()) {
+                Category category;
+                try {
+                    category = byId.get(Integer.parseInt(record.categoryId().trim()));
+                } catch (NumberFormatException e) {
+                    category = null;
+                }
+                if (category == null) {
+                    throw new RowRejectedException("Unknown category id '" + record.categoryId() + "'");
+                }
+                return checkType(category, typeId);
+            }
+
+            String name = record.category() == null || record.category().isBlank() ? DEFAULT_CATEGORY : record.category();
+            List<Category> candidates = byName.getOrDefault(key(name), List.of());
+            if (candidates.isEmpty()) {
+                throw new RowRejectedException("Unknown category '" + name + "'");
+            }
+            if (candidates.size() == 1) {
+                return checkType(candidates.get(0), typeId);
+            }
+
+            // Names such as "Other" exist for both types; without an explicit type the sign decides
+            Integer wantedTypeId = typeId != null ? typeId : negative ? expenseTypeId : incomeTypeId;
+            for (Category candidate : candidates) {
+                if (candidate.getTransactionType().getTransactionTypeId().equals(wantedTypeId)) {
+                    return candidate;
+                }
+            }
+            throw new RowRejectedException("Category '" + name + "' does not exist for the given transaction type");
+        }
+
+        private static Category checkType(Category category, Integer typeId) {
+            if (typeId != null && !category.getTransactionType().getTransactionTypeId().equals(typeId)) {
+                throw new RowRejectedException("Category '" + category.getCategoryName() + "' does not belong to the given transaction type");
+            }
+            return category;
+        }
+
+        private static String key(String name) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final class ImportRun {
+
+        private final long userId;
+
+        private final List<Object[]> batch = new ArrayList<>();
+
+        private final AggregateDeltas deltas = new AggregateDeltas();
+
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+        private long rowsRead;
+
+        private long imported;
+
+        private long rejected;
+
+        ImportRun(long userId) {
+            this.userId = userId;
+        }
+
+        void add(ValidRow row) {
+            int typeId = row.category().getTransactionType().getTransactionTypeId();
+            batch.add(new Object[]{userId, row.category().getCategoryId(), row.description(), row.amount(), row.date()});
+
+            deltas.add(userId, typeId, row.category().getCategoryId(),
+                    row.category().getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_EXPENSE,
+                    row.date(), row.amount(), 1);
+
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowErrorDto(row, message));
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            transactionJdbcRepository.insertAll(batch);
+            imported += batch.size();
+            batch.clear();
+        }
+    }
+
+    private record ValidRow(Category category, String description, double amount, LocalDate date) {
+    }
+
+    private static final class RowRejectedException extends RuntimeException {
+        RowRejectedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
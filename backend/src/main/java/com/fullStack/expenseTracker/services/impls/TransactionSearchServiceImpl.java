@@ -0,0 +1,126 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+import com.fullStack.expenseTracker.services.TransactionSearchService;
+
+@Component
+public class TransactionSearchServiceImpl implements TransactionSearchService {
+
+    // Never a category id, keeps "IN (...)" valid when nothing matched
+    private static final List<Integer> NO_CATEGORIES = List.of(-1);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    // Shorter keys cannot be answered by the index (ngram_token_size) and stay on the LIKE path
+    @Value("${app.search.min-length:2}")
+    private int minLength;
+
+    @Override
+    public boolean isSearchable(String searchKey) {
+        return searchKey != null && normalize(searchKey).length() >= minLength;
+    }
+
+    @Override
+    public Page<Transaction> searchByUser(String email, String searchKey, String transactionType, Pageable pageable) {
+        String key = normalize(searchKey);
+        String typeFilter = transactionType == null ? "" : transactionType.toLowerCase(Locale.ROOT);
+
+        List<Integer> allowed = categoryIds(category -> typeName(category).contains(typeFilter));
+        if (allowed.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        List<Integer> matched = orNone(categoryIds(category -> categoryName(category).contains(key)));
+        String query = phrase(key);
+
+        if (pageable.getSort().isSorted()) {
+            return transactionRepository.searchByUserSorted(email, query, matched, allowed, pageable);
+        }
+        List<Long> ids = transactionRepository.searchIdsByUser(email, query, matched, allowed,
+                pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(hydrate(ids), pageable,
+                () -> transactionRepository.countSearchHitsByUser(email, query, matched, allowed));
+    }
+
+    @Override
+    public Page<Transaction> searchAll(String searchKey, Pageable pageable) {
+        String key = normalize(searchKey);
+        List<Integer> matched = orNone(categoryIds(category ->
+                categoryName(category).contains(key) || typeName(category).contains(key)));
+        String query = phrase(key);
+
+        List<Long> ids = transactionRepository.searchIds(query, key, matched,
+                pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(hydrate(ids), pageable,
+                () -> transactionRepository.countSearchHits(query, key, matched));
+    }
+
+    private List<Transaction> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Transaction> byId = transactionRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Transaction::getTransactionId, Function.identity()));
+        List<Transaction> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Transaction transaction = byId.get(id);
+            // A row deleted between the two statements is simply left out of the page
+            if (transaction != null) {
+                ranked.add(transaction);
+            }
+        }
+        return ranked;
+    }
+
+    private List<Integer> categoryIds(Predicate<Category> filter) {
+        return referenceDataService.getCategories().stream()
+                .filter(filter)
+                .map(Category::getCategoryId)
+                .toList();
+    }
+
+    private static List<Integer> orNone(List<Integer> ids) {
+        return ids.isEmpty() ? NO_CATEGORIES : ids;
+    }
+
+    // Quotes are the only character with a meaning inside a boolean-mode phrase
+    private static String normalize(String searchKey) {
+        return searchKey.replace('"', ' ').trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String phrase(String key) {
+        return '"' + key + '"';
+    }
+
+    private static String categoryName(Category category) {
+        return category.getCategoryName() == null ? "" : category.getCategoryName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String typeName(Category category) {
+        return category.getTransactionType() == null || category.getTransactionType().getTransactionTypeName() == null
+                ? ""
+                : category.getTransactionType().getTransactionTypeName().name().toLowerCase(Locale.ROOT);
+    }
+}
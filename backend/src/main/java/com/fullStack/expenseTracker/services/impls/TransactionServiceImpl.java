@@ -1,13 +1,17 @@
 package com.fullStack.expenseTracker.services.impls;
 
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,24 +20,29 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CursorPageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionDayDto;
 import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
-import com.fullStack.expenseTracker.models.Budget;
 import com.fullStack.expenseTracker.models.Transaction;
-import com.fullStack.expenseTracker.repository.BudgetRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
 import com.fullStack.expenseTracker.services.CategoryService;
-import com.fullStack.expenseTracker.services.NotificationGateway;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.TransactionSearchService;
 import com.fullStack.expenseTracker.services.TransactionService;
 import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.util.TransactionCursor;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,6 +50,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    // Upper bound for a cursor page, so one request cannot ask the database for an unbounded result
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     TransactionRepository transactionRepository;
 
@@ -51,43 +63,27 @@ public class TransactionServiceImpl implements TransactionService {
     CategoryService categoryService;
 
     @Autowired
-    BudgetRepository budgetRepository;
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    MonthlyAggregateService monthlyAggregateService;
 
     @Autowired
-    NotificationGateway notificationGateway;
+    TransactionSearchService transactionSearchService;
+
+    // A feed page stops adding days once it holds this many rows; a single larger day is still returned whole
+    @Value("${app.transaction.feed.max-rows:500}")
+    int feedMaxRows;
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> addTransaction(TransactionRequestDto transactionRequestDto)
             throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
         Transaction transaction = TransactionRequestDtoToTransaction(transactionRequestDto);
         try {
             transactionRepository.save(transaction);
-
-            // Budget alert hook: if monthly expense reaches/exceeds budget, push notification
-            try {
-                long userId = transaction.getUser().getId();
-                LocalDate d = transaction.getDate() != null ? transaction.getDate() : LocalDate.now();
-                int month = d.getMonthValue();
-                int year = d.getYear();
-
-                // transactionTypeId 1 is EXPENSE in this project
-                Double spent = transactionRepository.findTotalByUserAndTransactionType(userId, 1, month, year);
-                Budget budget = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
-                double budgetAmount = budget == null ? 0 : budget.getAmount();
-
-                if (budgetAmount > 0 && spent != null && spent >= budgetAmount) {
-                    notificationGateway.sendAlert("BUDGET_ALERT", java.util.Map.of(
-                            "userId", userId,
-                            "month", month,
-                            "year", year,
-                            "spent", spent,
-                            "budget", budgetAmount,
-                            "message", "Budget limit reached"
-                    ));
-                }
-            } catch (Exception ignored) {
-                // avoid impacting transaction flow if alerting fails
-            }
+            monthlyAggregateService.recordTransaction(transaction, 1);
+            requestBudgetCheck(transaction);
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
@@ -117,10 +113,13 @@ public class TransactionServiceImpl implements TransactionService {
 
         Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(direction, sortField);
 
-        Page<Transaction> transactions = transactionRepository.findByUser(email,
-                pageable, searchKey, transactionType);
-
         try {
+            // Searches find their rows through the full-text index but are still paged in the requested sort,
+            // which is what the date grouping below expects
+            Page<Transaction> transactions = transactionSearchService.isSearchable(searchKey)
+                    ? transactionSearchService.searchByUser(email, searchKey, transactionType, pageable)
+                    : transactionRepository.findByUser(email, pageable, searchKey, transactionType);
+
             if (transactions.getTotalElements() == 0) {
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -159,6 +158,127 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTransactionsByUserAfter(String email, String cursor, int pageSize,
+                                                                        String searchKey, String transactionType)
+            throws TransactionServiceLogicException {
+
+        TransactionCursor after;
+        try {
+            after = TransactionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException("Invalid pagination cursor!");
+        }
+        if (pageSize < 1) {
+            throw new TransactionServiceLogicException("Page size must be at least 1!");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        try {
+            // Fetch one extra row to learn whether another page exists without running a COUNT(*)
+            List<Transaction> transactions = transactionRepository.findByUserAfter(email,
+                    searchKey == null ? "" : searchKey, transactionType == null ? "" : transactionType,
+                    after.date(), after.transactionId(), pageSize + 1);
+
+            boolean hasMore = transactions.size() > pageSize;
+            if (hasMore) {
+                transactions = transactions.subList(0, pageSize);
+            }
+
+            List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>(transactions.size());
+            for (Transaction transaction: transactions) {
+                transactionResponseDtoList.add(transactionToTransactionResponseDto(transaction));
+            }
+
+            String nextCursor = null;
+            if (hasMore) {
+                Transaction last = transactions.get(transactions.size() - 1);
+                nextCursor = new TransactionCursor(last.getDate(), last.getTransactionId()).encode();
+            }
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new CursorPageResponseDto<>(
+                                    groupTransactionsByDate(transactionResponseDtoList),
+                                    nextCursor,
+                                    hasMore
+                            )
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Error happen when retrieving transactions of a user: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch your transactions! Try again later");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTransactionFeed(String email, String cursor, int days,
+                                                                String searchKey, String transactionType)
+            throws TransactionServiceLogicException {
+
+        TransactionCursor after;
+        try {
+            after = TransactionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException("Invalid pagination cursor!");
+        }
+        String search = searchKey == null ? "" : searchKey;
+        String type = transactionType == null ? "" : transactionType;
+
+        try {
+            // Buckets and subtotals come from SQL; one extra bucket tells whether an older day exists
+            List<Object[]> buckets = transactionRepository.findDayTotalsByUserBefore(email, search, type,
+                    after.date(), Math.max(days, 1) + 1);
+
+            LocalDate today = LocalDate.now();
+            List<TransactionDayDto> page = new ArrayList<>();
+            long rows = 0;
+            for (Object[] bucket : buckets) {
+                long count = ((Number) bucket[3]).longValue();
+                if (page.size() == Math.max(days, 1) || (!page.isEmpty() && rows + count > feedMaxRows)) {
+                    break;
+                }
+                LocalDate date = bucket[0] instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) bucket[0];
+                page.add(new TransactionDayDto(date, dayLabel(date, today), ((Number) bucket[1]).doubleValue(),
+                        ((Number) bucket[2]).doubleValue(), count, new ArrayList<>((int) count)));
+                rows += count;
+            }
+
+            if (!page.isEmpty()) {
+                // Rows arrive in the same date order as the buckets, so each one goes into the current or a later day
+                int day = 0;
+                for (Transaction transaction : transactionRepository.findByUserBetweenDates(email, search, type,
+                        page.get(page.size() - 1).getDate(), page.get(0).getDate())) {
+                    while (day < page.size() - 1 && page.get(day).getDate().isAfter(transaction.getDate())) {
+                        day++;
+                    }
+                    // A day that only gained rows after the bucket query has no bucket on this page
+                    if (page.get(day).getDate().equals(transaction.getDate())) {
+                        page.get(day).getTransactions().add(transactionToTransactionResponseDto(transaction));
+                    }
+                }
+            }
+
+            boolean hasMore = buckets.size() > page.size();
+            String nextCursor = hasMore
+                    ? TransactionCursor.afterDay(page.get(page.size() - 1).getDate()).encode()
+                    : null;
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new CursorPageResponseDto<>(page, nextCursor, hasMore)
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Error happen when retrieving the transaction feed of a user: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch your transactions! Try again later");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTransactionById(@NonNull Long transactionId)
             throws TransactionNotFoundException {
@@ -176,6 +296,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateTransaction(@NonNull Long transactionId, TransactionRequestDto transactionRequestDto)
             throws TransactionNotFoundException, UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
 
@@ -183,6 +304,14 @@ public class TransactionServiceImpl implements TransactionService {
                 () -> new TransactionNotFoundException("Transaction not found with id : " + transactionId)
         );
 
+        // Remember the bucket the row currently counts towards before the fields are overwritten
+        long previousUserId = transaction.getUser().getId();
+        int previousTypeId = transaction.getCategory().getTransactionType().getTransactionTypeId();
+        int previousCategoryId = transaction.getCategory().getCategoryId();
+        LocalDate previousDate = transaction.getDate();
+        double previousAmount = transaction.getAmount();
+        boolean previousExpense = isExpense(transaction);
+
         transaction.setAmount(transactionRequestDto.getAmount());
         transaction.setDate(transactionRequestDto.getDate());
         transaction.setUser(userService.findByEmail(transactionRequestDto.getUserEmail()));
@@ -191,6 +320,12 @@ public class TransactionServiceImpl implements TransactionService {
 
         try {
             transactionRepository.save(transaction);
+            monthlyAggregateService.recordDelta(previousUserId, previousTypeId, previousCategoryId, previousDate, -previousAmount, -1);
+            monthlyAggregateService.recordTransaction(transaction, 1);
+            if (previousExpense) {
+                requestBudgetCheck(previousUserId, previousDate);
+            }
+            requestBudgetCheck(transaction);
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
@@ -206,10 +341,17 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> deleteTransaction(@NonNull Long transactionId) throws TransactionNotFoundException, TransactionServiceLogicException {
 
         if (transactionRepository.existsById(transactionId)) {
-            try {transactionRepository.deleteById(transactionId);
+            try {
+                Transaction existing = transactionRepository.findById(transactionId).orElse(null);
+                transactionRepository.deleteById(transactionId);
+                if (existing != null) {
+                    monthlyAggregateService.recordTransaction(existing, -1);
+                    requestBudgetCheck(existing);
+                }
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
                                 ApiResponseStatus.SUCCESS,
@@ -231,7 +373,9 @@ public class TransactionServiceImpl implements TransactionService {
     public ResponseEntity<ApiResponseDto<?>> getAllTransactions(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException {
         Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transaction_id");
 
-        Page<Transaction> transactions = transactionRepository.findAll(pageable, searchKey);
+        Page<Transaction> transactions = transactionSearchService.isSearchable(searchKey)
+                ? transactionSearchService.searchAll(searchKey, PageRequest.of(pageNumber, pageSize))
+                : transactionRepository.findAll(pageable, searchKey);
 
         try {
             if (transactions.getTotalElements() == 0) {
@@ -270,6 +414,24 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    private void requestBudgetCheck(Transaction transaction) {
+        if (isExpense(transaction)) {
+            requestBudgetCheck(transaction.getUser().getId(), transaction.getDate());
+        }
+    }
+
+    // The check runs after commit on the alert worker, so the write itself stays a single insert/update
+    private void requestBudgetCheck(long userId, LocalDate date) {
+        if (date != null) {
+            applicationEventPublisher.publishEvent(new BudgetEvaluationRequestedEvent(userId, date.getMonthValue(), date.getYear()));
+        }
+    }
+
+    private static boolean isExpense(Transaction transaction) {
+        return transaction.getUser() != null && transaction.getCategory() != null
+                && transaction.getCategory().getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_EXPENSE;
+    }
+
     @NonNull
     private Transaction TransactionRequestDtoToTransaction(TransactionRequestDto transactionRequestDto) throws UserNotFoundException, CategoryNotFoundException {
         return new Transaction(
@@ -281,7 +443,7 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
-    private TransactionResponseDto transactionToTransactionResponseDto(Transaction transaction) {
+    TransactionResponseDto transactionToTransactionResponseDto(Transaction transaction) {
         return new TransactionResponseDto(
                 transaction.getTransactionId(),
                 transaction.getCategory().getCategoryId(),
@@ -294,29 +456,25 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
-    private Map<String, List<TransactionResponseDto>> groupTransactionsByDate(List<TransactionResponseDto> transactionResponseDtoList) {
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
+    Map<String, List<TransactionResponseDto>> groupTransactionsByDate(List<TransactionResponseDto> transactionResponseDtoList) {
+        // Keyed by date, newest first, so labels are applied once per day rather than compared as strings
+        TreeMap<LocalDate, List<TransactionResponseDto>> byDate = new TreeMap<>(Comparator.reverseOrder());
+        for (TransactionResponseDto transaction : transactionResponseDtoList) {
+            byDate.computeIfAbsent(transaction.getDate(), date -> new ArrayList<>()).add(transaction);
+        }
 
-        return transactionResponseDtoList.stream().collect(Collectors.groupingBy(t -> {
+        LocalDate today = LocalDate.now();
+        Map<String, List<TransactionResponseDto>> grouped = new LinkedHashMap<>();
+        byDate.forEach((date, transactions) -> grouped.put(dayLabel(date, today), transactions));
+        return grouped;
+    }
 
-            if (t.getDate().equals(today)) {
-                return "Today";
-            }else if (t.getDate().equals(yesterday)) {
-                return "Yesterday";
-            }else {
-                return t.getDate().toString();
-            }
-        }))
-                .entrySet().stream()
-                .sorted((entry1, entry2 ) -> {
-                    if (entry1.getKey().equals("Today")) return -1;
-                    else if (entry2.getKey().equals("Today")) return 1;
-                    else if (entry1.getKey().equals("Yesterday")) return -1;
-                    else if (entry2.getKey().equals("Yesterday")) return 1;
-                    else return entry2.getKey().compareTo(entry1.getKey());
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue, LinkedHashMap::new));
+    private static String dayLabel(LocalDate date, LocalDate today) {
+        if (date.equals(today)) {
+            return "Today";
+        } else if (date.equals(today.minusDays(1))) {
+            return "Yesterday";
+        }
+        return date.toString();
     }
 }
@@ -1,9 +1,9 @@
 package com.fullStack.expenseTracker.services.impls;
 
+import com.fullStack.expenseTracker.services.ReferenceDataService;
 import com.fullStack.expenseTracker.services.TransactionTypeService;
 import com.fullStack.expenseTracker.exceptions.TransactionTypeNotFoundException;
 import com.fullStack.expenseTracker.models.TransactionType;
-import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -12,23 +12,25 @@ import java.util.List;
 @Component
 public class TransactionTypeServiceImpl implements TransactionTypeService {
     @Autowired
-    private TransactionTypeRepository transactionTypeRepository;
+    private ReferenceDataService referenceDataService;
 
     @Override
     public List<TransactionType> getAllTransactions() {
-        return transactionTypeRepository.findAll();
+        return referenceDataService.getTransactionTypes();
     }
 
     @Override
     public boolean existsByTransactionTypeId(int transactionTypeId) {
-        return transactionTypeRepository.existsById(transactionTypeId);
+        return referenceDataService.findTransactionType(transactionTypeId) != null;
     }
 
     @Override
     public TransactionType getTransactionById(int transactionTypeId) throws TransactionTypeNotFoundException {
-        return transactionTypeRepository.findById(transactionTypeId).orElseThrow(
-                () -> new TransactionTypeNotFoundException("Transaction type not found with id " + transactionTypeId)
-        );
+        TransactionType transactionType = referenceDataService.findTransactionType(transactionTypeId);
+        if (transactionType == null) {
+            throw new TransactionTypeNotFoundException("Transaction type not found with id " + transactionTypeId);
+        }
+        return transactionType;
     }
 
 
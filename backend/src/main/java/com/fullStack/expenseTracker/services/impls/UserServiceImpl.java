@@ -10,11 +10,14 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +30,8 @@ import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.UserResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
-import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.UserSecurityChangedEvent;
+import com.fullStack.expenseTracker.security.UserDetailsServiceImpl;
 import com.fullStack.expenseTracker.exceptions.RoleNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
@@ -35,8 +39,8 @@ import com.fullStack.expenseTracker.factories.RoleFactory;
 import com.fullStack.expenseTracker.models.Transaction;
 import com.fullStack.expenseTracker.models.User;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
-import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
 import com.fullStack.expenseTracker.services.UserService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -54,15 +58,21 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private TransactionRepository transactionRepository;
 
-    @Autowired
-    private TransactionTypeRepository transactionTypeRepository;
-
     @Autowired
     private com.fullStack.expenseTracker.repository.SavedTransactionRepository savedTransactionRepository;
 
     @Autowired
     private com.fullStack.expenseTracker.repository.BudgetRepository budgetRepository;
 
+    @Autowired
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     @Value("${app.user.profile.upload.dir}")
     private String userProfileUploadDir;
 
@@ -76,11 +86,7 @@ public class UserServiceImpl implements UserService {
         Page<User> users = userRepository.findAll(pageable, roleFactory.getInstance("user").getId(), searchKey);
 
         try {
-            List<UserResponseDto> userResponseDtoList = new ArrayList<>();
-
-            for (User u: users) {
-                userResponseDtoList.add(userToUserResponseDto(u));
-            }
+            List<UserResponseDto> userResponseDtoList = usersToUserResponseDtos(users.getContent());
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -106,6 +112,8 @@ public class UserServiceImpl implements UserService {
 
             user.setEnabled(!user.isEnabled());
             userRepository.save(user);
+            // Cached principals and tokens must not keep authenticating with the old state
+            applicationEventPublisher.publishEvent(new UserSecurityChangedEvent(userId, user.getEmail()));
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -159,6 +167,8 @@ public class UserServiceImpl implements UserService {
                 log.info("No budgets found for user {}", userId);
             }
 
+            monthlyAggregateService.deleteByUser(userId);
+
             // Delete profile image if exists
             if (user.getProfileImgUrl() != null && !user.getProfileImgUrl().isEmpty()) {
                 try {
@@ -183,6 +193,7 @@ public class UserServiceImpl implements UserService {
             // Delete the user
             userRepository.delete(user);
             userRepository.flush(); // Ensure user is deleted
+            applicationEventPublisher.publishEvent(new UserSecurityChangedEvent(userId, user.getEmail()));
             
             // Verify deletion
             if (userRepository.existsById(userId)) {
@@ -316,27 +327,37 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with email " +  email));
     }
 
-    private UserResponseDto userToUserResponseDto(User user) {
-        return new UserResponseDto(
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.isEnabled(),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_EXPENSE).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_INCOME).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalNoOfTransactionsByUser(user.getId(), LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear())
-        );
+    // Totals for the whole page come from one grouped query instead of three queries per user
+    private List<UserResponseDto> usersToUserResponseDtos(List<User> users) {
+        LocalDate now = LocalDate.now();
+        List<Long> userIds = users.stream().map(User::getId).toList();
+
+        Map<Long, Object[]> totalsByUser = new HashMap<>();
+        for (Object[] row : monthlyAggregateService.getMonthlyTotalsByUsers(userIds, now.getMonthValue(), now.getYear())) {
+            totalsByUser.put(((Number) row[0]).longValue(), row);
+        }
+
+        List<UserResponseDto> userResponseDtoList = new ArrayList<>(users.size());
+        for (User user : users) {
+            Object[] totals = totalsByUser.get(user.getId());
+            userResponseDtoList.add(new UserResponseDto(
+                    user.getId(),
+                    user.getUsername(),
+                    user.getEmail(),
+                    user.isEnabled(),
+                    totals == null || totals[1] == null ? null : ((Number) totals[1]).doubleValue(),
+                    totals == null || totals[2] == null ? null : ((Number) totals[2]).doubleValue(),
+                    totals == null || totals[3] == null ? 0 : ((Number) totals[3]).intValue()
+            ));
+        }
+        return userResponseDtoList;
     }
 
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getPrincipalCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, userDetailsService.getCacheStats())
+        );
+    }
 }
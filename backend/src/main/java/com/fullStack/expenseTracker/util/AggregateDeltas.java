@@ -0,0 +1,65 @@
+package com.fullStack.expenseTracker.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Monthly aggregate changes of a bulk write, summed per (user, transaction type, category, month) so
+ * {@code MonthlyAggregateService.recordDeltas} can apply each bucket once and request one budget check per
+ * (user, month) that gained or lost expenses. Undated rows never reach a monthly bucket and are ignored.
+ */
+public final class AggregateDeltas {
+
+    private final Map<BucketKey, Total> totals = new LinkedHashMap<>();
+
+    private final Set<UserMonth> expenseMonths = new LinkedHashSet<>();
+
+    /**
+     * @param amount signed amount, negative for rows leaving the bucket
+     * @param count  signed number of rows, negative for rows leaving the bucket
+     */
+    public void add(long userId, int transactionTypeId, int categoryId, boolean expense, LocalDate date, double amount, long count) {
+        if (date == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(date);
+        Total total = totals.computeIfAbsent(new BucketKey(userId, transactionTypeId, categoryId, month), key -> new Total());
+        total.amount += amount;
+        total.count += count;
+        if (expense) {
+            expenseMonths.add(new UserMonth(userId, month));
+        }
+    }
+
+    public List<Bucket> buckets() {
+        List<Bucket> buckets = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> buckets.add(new Bucket(key.userId(), key.transactionTypeId(), key.categoryId(),
+                key.month(), total.amount, total.count)));
+        return buckets;
+    }
+
+    public Set<UserMonth> expenseMonths() {
+        return Collections.unmodifiableSet(expenseMonths);
+    }
+
+    public record Bucket(long userId, int transactionTypeId, int categoryId, YearMonth month, double amount, long count) {
+    }
+
+    public record UserMonth(long userId, YearMonth month) {
+    }
+
+    private record BucketKey(long userId, int transactionTypeId, int categoryId, YearMonth month) {
+    }
+
+    private static final class Total {
+        private double amount;
+        private long count;
+    }
+}
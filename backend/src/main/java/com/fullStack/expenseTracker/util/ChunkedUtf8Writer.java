@@ -0,0 +1,118 @@
+package com.fullStack.expenseTracker.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes text and integers straight into a single reusable byte buffer and hands it to the underlying
+ * stream only when the buffer is full, so bulk exports write fixed-size chunks without encoding each row
+ * into its own {@code byte[]}. Callers that format a value into a {@code String} first (amounts, for
+ * example) still pay for that string. Not thread-safe; {@link #flush()} must be called at the end.
+ */
+public class ChunkedUtf8Writer {
+
+    // Worst case for a single UTF-16 char, or a surrogate pair, is four bytes
+    private static final int MAX_CHAR_BYTES = 4;
+
+    // Sign and nineteen digits
+    private static final int MAX_LONG_BYTES = 20;
+
+    // The one value whose magnitude does not fit in a long
+    private static final String MIN_LONG = Long.toString(Long.MIN_VALUE);
+
+    private final OutputStream out;
+
+    private final byte[] buffer;
+
+    private int position;
+
+    public ChunkedUtf8Writer(OutputStream out, int chunkSize) {
+        if (chunkSize < 64) {
+            throw new IllegalArgumentException("Chunk size must be at least 64 bytes");
+        }
+        this.out = out;
+        this.buffer = new byte[chunkSize];
+    }
+
+    public ChunkedUtf8Writer write(char c) throws IOException {
+        ensureCapacity(MAX_CHAR_BYTES);
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else {
+            // A lone surrogate cannot be encoded on its own; replace it like String.getBytes would
+            char encodable = Character.isSurrogate(c) ? '?' : c;
+            buffer[position++] = (byte) (0xE0 | (encodable >> 12));
+            buffer[position++] = (byte) (0x80 | ((encodable >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (encodable & 0x3F));
+        }
+        return this;
+    }
+
+    public ChunkedUtf8Writer write(CharSequence text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+            } else if (c < 0x80 && position < buffer.length) {
+                buffer[position++] = (byte) c;
+            } else {
+                write(c);
+            }
+        }
+        return this;
+    }
+
+    public ChunkedUtf8Writer write(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            return write(MIN_LONG);
+        }
+        ensureCapacity(MAX_LONG_BYTES);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int i = end;
+        do {
+            buffer[--i] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    private void writeCodePoint(int codePoint) throws IOException {
+        ensureCapacity(MAX_CHAR_BYTES);
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+    private static int digits(long nonNegative) {
+        int digits = 1;
+        for (long bound = 10; digits < 19 && nonNegative >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.fullStack.expenseTracker.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+/**
+ * Next-occurrence rule of a saved transaction: either one of the fixed frequencies or, for
+ * {@link ETransactionFrequency#CUSTOM}, an RFC 5545 RRULE subset:
+ * {@code FREQ=DAILY|WEEKLY|MONTHLY|YEARLY}, {@code INTERVAL}, {@code BYDAY} (weekly, plain weekdays),
+ * {@code BYMONTHDAY} (monthly, negative values count from the month end) and {@code UNTIL}.
+ * There is no DTSTART; the plan's current upcoming date is always an occurrence and anchors the
+ * interval, so {@code COUNT} is not supported.
+ */
+public final class RecurrenceRule {
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // Enough months to find a valid BYMONTHDAY (e.g. 31) under any interval
+    private static final int MAX_MONTH_STEPS = 48;
+
+    private static final RecurrenceRule NEVER = new RecurrenceRule(null, null, 1, Set.of(), new int[0], null);
+
+    private final ETransactionFrequency frequency;
+
+    private final String unit;
+
+    private final int interval;
+
+    private final Set<DayOfWeek> byDay;
+
+    private final int[] byMonthDay;
+
+    private final LocalDate until;
+
+    private RecurrenceRule(ETransactionFrequency frequency, String unit, int interval, Set<DayOfWeek> byDay,
+                           int[] byMonthDay, LocalDate until) {
+        this.frequency = frequency;
+        this.unit = unit;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+        this.until = until;
+    }
+
+    public static RecurrenceRule forPlan(SavedTransaction plan) {
+        return of(plan.getFrequency(), plan.getRecurrenceRule());
+    }
+
+    /**
+     * @throws IllegalArgumentException when a CUSTOM frequency comes without a valid rule
+     */
+    public static RecurrenceRule of(ETransactionFrequency frequency, String rrule) {
+        if (frequency == null || frequency == ETransactionFrequency.ONE_TIME) {
+            return NEVER;
+        }
+        if (frequency != ETransactionFrequency.CUSTOM) {
+            return new RecurrenceRule(frequency, null, 1, Set.of(), new int[0], null);
+        }
+        if (rrule == null || rrule.isBlank()) {
+            throw new IllegalArgumentException("A custom frequency needs a recurrence rule");
+        }
+        return parse(rrule);
+    }
+
+    private static RecurrenceRule parse(String rrule) {
+        String unit = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        int[] byMonthDay = new int[0];
+        LocalDate until = null;
+
+        String body = rrule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring(6);
+        }
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part '" + part + "'");
+            }
+            String name = part.substring(0, eq).trim();
+            String value = part.substring(eq + 1).trim();
+            try {
+                switch (name) {
+                    case "FREQ" -> {
+                        if (!List.of("DAILY", "WEEKLY", "MONTHLY", "YEARLY").contains(value)) {
+                            throw new IllegalArgumentException("Unsupported FREQ '" + value + "'");
+                        }
+                        unit = value;
+                    }
+                    case "INTERVAL" -> {
+                        interval = Integer.parseInt(value);
+                        if (interval < 1) {
+                            throw new IllegalArgumentException("INTERVAL must be positive");
+                        }
+                    }
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(weekday(day.trim()));
+                        }
+                    }
+                    case "BYMONTHDAY" -> byMonthDay = Arrays.stream(value.split(","))
+                            .mapToInt(day -> Integer.parseInt(day.trim()))
+                            .peek(day -> {
+                                if (day == 0 || day < -31 || day > 31) {
+                                    throw new IllegalArgumentException("BYMONTHDAY out of range: " + day);
+                                }
+                            })
+                            .sorted()
+                            .toArray();
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_FORMAT);
+                    case "WKST" -> {
+                        // Only affects BYDAY expansion across intervals, which always starts weeks on Monday here
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part '" + name + "'");
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": '" + value + "'");
+            }
+        }
+
+        if (unit == null) {
+            throw new IllegalArgumentException("The recurrence rule needs a FREQ");
+        }
+        if (!byDay.isEmpty() && !unit.equals("WEEKLY")) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        if (byMonthDay.length > 0 && !unit.equals("MONTHLY")) {
+            throw new IllegalArgumentException("BYMONTHDAY is only supported with FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(ETransactionFrequency.CUSTOM, unit, interval, byDay, byMonthDay, until);
+    }
+
+    /**
+     * @return the first occurrence after {@code date}, or {@code null} when the plan has ended
+     */
+    public LocalDate next(LocalDate date) {
+        if (frequency == null) {
+            return null;
+        }
+        LocalDate next = frequency == ETransactionFrequency.CUSTOM ? nextCustom(date) : frequency.next(date);
+        return next == null || (until != null && next.isAfter(until)) ? null : next;
+    }
+
+    /**
+     * Occurrences starting with {@code first} itself, up to and including {@code to}, at most {@code limit}.
+     */
+    public List<LocalDate> occurrences(LocalDate first, LocalDate to, int limit) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first; date != null && !date.isAfter(to) && dates.size() < limit; date = next(date)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private LocalDate nextCustom(LocalDate date) {
+        switch (unit) {
+            case "DAILY":
+                return date.plusDays(interval);
+            case "YEARLY":
+                return date.plusYears(interval);
+            case "WEEKLY":
+                if (byDay.isEmpty()) {
+                    return date.plusWeeks(interval);
+                }
+                for (DayOfWeek day : byDay) {
+                    if (day.compareTo(date.getDayOfWeek()) > 0) {
+                        return date.with(day);
+                    }
+                }
+                LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(interval);
+                return weekStart.with(TemporalAdjusters.nextOrSame(byDay.iterator().next()));
+            default:
+                if (byMonthDay.length == 0) {
+                    return date.plusMonths(interval);
+                }
+                LocalDate later = firstMonthDayAfter(YearMonth.from(date), date.getDayOfMonth());
+                if (later != null) {
+                    return later;
+                }
+                YearMonth month = YearMonth.from(date);
+                for (int step = 0; step < MAX_MONTH_STEPS; step++) {
+                    month = month.plusMonths(interval);
+                    LocalDate first = firstMonthDayAfter(month, 0);
+                    if (first != null) {
+                        return first;
+                    }
+                }
+                return null;
+        }
+    }
+
+    // Earliest BYMONTHDAY in the month that falls after the given day; days the month lacks are skipped
+    private LocalDate firstMonthDayAfter(YearMonth month, int afterDay) {
+        int best = Integer.MAX_VALUE;
+        for (int day : byMonthDay) {
+            int resolved = day > 0 ? day : month.lengthOfMonth() + day + 1;
+            if (resolved >= 1 && resolved <= month.lengthOfMonth() && resolved > afterDay && resolved < best) {
+                best = resolved;
+            }
+        }
+        return best == Integer.MAX_VALUE ? null : month.atDay(best);
+    }
+
+    private static DayOfWeek weekday(String code) {
+        return switch (code) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("Unsupported BYDAY value '" + code + "'");
+        };
+    }
+}
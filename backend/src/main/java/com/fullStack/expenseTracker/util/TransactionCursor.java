@@ -0,0 +1,45 @@
+package com.fullStack.expenseTracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination over a user's transactions.
+ * The feed is ordered by {@code (date DESC, transactionId DESC)}, so the position after
+ * the last row of a page is fully described by that row's date and id.
+ */
+public record TransactionCursor(LocalDate date, long transactionId) {
+
+    /** Position before the newest possible row, used when no cursor has been supplied yet. */
+    public static final TransactionCursor START = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    /**
+     * Position after every row of {@code day}; the day feed pages on these so a day is never split.
+     */
+    public static TransactionCursor afterDay(LocalDate day) {
+        return new TransactionCursor(day, 0);
+    }
+
+    public String encode() {
+        String raw = date + ":" + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            if (sep < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TransactionCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
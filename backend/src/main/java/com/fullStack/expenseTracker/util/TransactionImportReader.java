@@ -0,0 +1,314 @@
+package com.fullStack.expenseTracker.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.enums.EImportFormat;
+
+/**
+ * Reads an uploaded statement one record at a time. Values are handed back as raw strings so the
+ * caller can validate every row and report what was wrong with it instead of failing the upload.
+ * CSV and NDJSON use the column and field names of the CSV/NDJSON exports, so exported files can be
+ * imported again; OFX statements carry no category, only a signed amount.
+ */
+public abstract class TransactionImportReader implements Closeable {
+
+    /**
+     * One record of the upload. {@code error} is set when the record itself could not be parsed.
+     */
+    public record ImportRecord(long row, String date, String category, String categoryId, String transactionType,
+                               String description, String amount, String error) {
+
+        static ImportRecord failed(long row, String error) {
+            return new ImportRecord(row, null, null, null, null, null, null, error);
+        }
+    }
+
+    protected long row;
+
+    public static TransactionImportReader open(EImportFormat format, InputStream in) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new Csv(reader);
+            case NDJSON -> new Ndjson(reader);
+            case OFX -> new Ofx(reader);
+        };
+    }
+
+    /**
+     * @return the next record, or {@code null} once the upload is exhausted
+     */
+    public abstract ImportRecord next() throws IOException;
+
+    private static final class Csv extends TransactionImportReader {
+
+        private final PushbackReader in;
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(Reader reader) throws IOException {
+            this.in = new PushbackReader(reader, 1);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("The file is empty");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(normalizeHeader(header.get(i)), i);
+            }
+            if (!columns.containsKey("date") || !columns.containsKey("amount")) {
+                throw new IllegalArgumentException("The header must name at least a date and an amount column");
+            }
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0) != null && fields.get(0).isBlank());
+
+            row++;
+            if (fields.size() == 1 && fields.get(0) == null) {
+                return ImportRecord.failed(row, "Unterminated quoted field");
+            }
+            return new ImportRecord(row,
+                    field(fields, "date"),
+                    field(fields, "category", "categoryname"),
+                    field(fields, "categoryid"),
+                    field(fields, "transactiontype", "type"),
+                    field(fields, "description"),
+                    field(fields, "amount"),
+                    null);
+        }
+
+        private String field(List<String> fields, String... names) {
+            for (String name : names) {
+                Integer index = columns.get(name);
+                if (index != null && index < fields.size()) {
+                    return fields.get(index);
+                }
+            }
+            return null;
+        }
+
+        // RFC 4180: quoted fields may contain separators, doubled quotes and line breaks
+        private List<String> readRecord() throws IOException {
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            in.unread(c);
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                c = in.read();
+                if (quoted) {
+                    if (c < 0) {
+                        // Signals a broken record; the rest of the file is part of it
+                        List<String> broken = new ArrayList<>();
+                        broken.add(null);
+                        return broken;
+                    }
+                    if (c == '"') {
+                        int next = in.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next >= 0) {
+                                in.unread(next);
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c < 0) {
+                    if (c == '\r') {
+                        int next = in.read();
+                        if (next >= 0 && next != '\n') {
+                            in.unread(next);
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+        }
+
+        private static String normalizeHeader(String name) {
+            return name.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class Ndjson extends TransactionImportReader {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private final BufferedReader in;
+
+        Ndjson(Reader reader) {
+            this.in = new BufferedReader(reader);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            row++;
+            JsonNode node;
+            try {
+                node = MAPPER.readTree(line);
+            } catch (JsonProcessingException e) {
+                return ImportRecord.failed(row, "Malformed JSON");
+            }
+            if (!node.isObject()) {
+                return ImportRecord.failed(row, "Each line must be a JSON object");
+            }
+            return new ImportRecord(row,
+                    text(node, "date"),
+                    text(node, "category", "categoryName"),
+                    text(node, "categoryId"),
+                    text(node, "transactionType"),
+                    text(node, "description"),
+                    text(node, "amount"),
+                    null);
+        }
+
+        private static String text(JsonNode node, String... names) {
+            for (String name : names) {
+                JsonNode value = node.get(name);
+                if (value != null && !value.isNull()) {
+                    return value.isValueNode() ? value.asText() : value.toString();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Handles both OFX 1.x (SGML, leaf elements without end tags) and OFX 2.x (XML).
+     */
+    private static final class Ofx extends TransactionImportReader {
+
+        // Matches the limit TransactionRequestDto puts on descriptions; bank memos are often longer
+        private static final int MAX_DESCRIPTION = 50;
+
+        private final PushbackReader in;
+
+        Ofx(Reader reader) {
+            this.in = new PushbackReader(reader, 1);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String tag;
+            do {
+                tag = readTag();
+                if (tag == null) {
+                    return null;
+                }
+            } while (!tag.equals("STMTTRN"));
+
+            row++;
+            Map<String, String> fields = new HashMap<>();
+            while ((tag = readTag()) != null && !tag.equals("/STMTTRN")) {
+                if (!tag.startsWith("/")) {
+                    String text = readText();
+                    if (!text.isEmpty()) {
+                        fields.putIfAbsent(tag, text);
+                    }
+                }
+            }
+
+            String posted = fields.get("DTPOSTED");
+            if (posted == null || posted.length() < 8) {
+                return ImportRecord.failed(row, "Missing or invalid DTPOSTED");
+            }
+            String date = posted.substring(0, 4) + "-" + posted.substring(4, 6) + "-" + posted.substring(6, 8);
+            String amount = fields.get("TRNAMT") == null ? null : fields.get("TRNAMT").replace(',', '.');
+            String description = fields.getOrDefault("NAME", fields.get("MEMO"));
+            if (description != null && description.length() > MAX_DESCRIPTION) {
+                description = description.substring(0, MAX_DESCRIPTION);
+            }
+            return new ImportRecord(row, date, null, null, null, description, amount, null);
+        }
+
+        private String readTag() throws IOException {
+            int c;
+            do {
+                c = in.read();
+                if (c < 0) {
+                    return null;
+                }
+            } while (c != '<');
+
+            StringBuilder tag = new StringBuilder();
+            while ((c = in.read()) >= 0 && c != '>') {
+                tag.append((char) c);
+            }
+            return tag.toString().trim().toUpperCase(Locale.ROOT);
+        }
+
+        private String readText() throws IOException {
+            StringBuilder text = new StringBuilder();
+            int c;
+            while ((c = in.read()) >= 0 && c != '<') {
+                text.append((char) c);
+            }
+            if (c == '<') {
+                in.unread(c);
+            }
+            return text.toString().trim()
+                    .replace("&lt;", "<")
+                    .replace("&gt;", ">")
+                    .replace("&amp;", "&");
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+-- Baseline schema, matching what spring.jpa.hibernate.ddl-auto=update produced before migrations
+-- were introduced. Databases that already contain these tables are baselined at V1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(20),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(20),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    verification_code VARCHAR(64),
+    verification_code_expiry_time DATETIME(6),
+    enabled BIT NOT NULL,
+    profile_img_url VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id BIGINT NOT NULL,
+    role_id INT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS transaction_type (
+    transaction_type_id INT NOT NULL AUTO_INCREMENT,
+    transaction_type_name VARCHAR(20),
+    PRIMARY KEY (transaction_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category (
+    category_id INT NOT NULL AUTO_INCREMENT,
+    category_name VARCHAR(255),
+    transaction_type_id INT,
+    enabled BIT NOT NULL,
+    PRIMARY KEY (category_id),
+    CONSTRAINT fk_category_transaction_type FOREIGN KEY (transaction_type_id) REFERENCES transaction_type (transaction_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS transaction (
+    transaction_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    category_id INT,
+    description VARCHAR(255),
+    amount DOUBLE NOT NULL,
+    date DATE,
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES category (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS budget (
+    budget_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    amount DOUBLE NOT NULL,
+    month INT NOT NULL,
+    year BIGINT NOT NULL,
+    PRIMARY KEY (budget_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS budget_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO budget_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM budget_seq);
+
+CREATE TABLE IF NOT EXISTS saved_transaction (
+    plan_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    transaction_type_id INT NOT NULL,
+    category_id INT NOT NULL,
+    amount DOUBLE NOT NULL,
+    description VARCHAR(255),
+    frequency VARCHAR(255),
+    upcoming_date DATE,
+    PRIMARY KEY (plan_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS saved_transaction_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO saved_transaction_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM saved_transaction_seq);
@@ -0,0 +1,33 @@
+-- Indexes for the transaction hot paths. MySQL has no CREATE INDEX IF NOT EXISTS, and databases
+-- that ran with ddl-auto may already carry some of these, so each one is guarded by a catalogue check.
+
+-- Monthly totals by user, type and category: the range on date is followed by the columns the
+-- aggregates read, so SUM/COUNT are answered from the index without touching the clustered rows.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'transaction'
+                 AND index_name = 'idx_transaction_user_date_cat_amount') = 0,
+              'CREATE INDEX idx_transaction_user_date_cat_amount ON transaction (user_id, date, category_id, amount)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Keyset feed: equality on user, then a backward scan over (date, id)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'transaction'
+                 AND index_name = 'idx_transaction_user_date_id') = 0,
+              'CREATE INDEX idx_transaction_user_date_id ON transaction (user_id, date, transaction_id)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Budget lookup performed after every expense insert
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'budget'
+                 AND index_name = 'idx_budget_user_year_month') = 0,
+              'CREATE INDEX idx_budget_user_year_month ON budget (user_id, year, month)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,23 @@
+-- Per-user monthly totals, maintained on write so dashboard reports become key lookups.
+-- transaction_type_id is denormalised from category; CategoryServiceImpl re-types rows when a
+-- category moves between types.
+
+CREATE TABLE user_monthly_aggregate (
+    aggregate_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    transaction_type_id INT NOT NULL,
+    category_id INT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY (aggregate_id),
+    CONSTRAINT uk_user_monthly_aggregate_key UNIQUE (user_id, year, month, transaction_type_id, category_id)
+) ENGINE = InnoDB;
+
+INSERT INTO user_monthly_aggregate (user_id, year, month, transaction_type_id, category_id, total_amount, transaction_count)
+SELECT t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id, SUM(t.amount), COUNT(*)
+FROM transaction t
+JOIN category c ON t.category_id = c.category_id
+WHERE t.user_id IS NOT NULL AND t.date IS NOT NULL
+GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id;
@@ -0,0 +1,29 @@
+-- Full-text index for the transaction search box. The ngram parser tokenises descriptions into
+-- overlapping character pairs, so a quoted phrase query keeps the substring semantics of the old
+-- LIKE '%key%' search while being answered from the index. InnoDB maintains the index in the same
+-- transaction as the row change.
+
+-- The default stopword list contains single letters, and the ngram parser drops every token that
+-- contains a stopword; the setting is captured when the index is created.
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'transaction'
+                 AND index_name = 'ft_transaction_description') = 0,
+              'ALTER TABLE transaction ADD FULLTEXT INDEX ft_transaction_description (description) WITH PARSER ngram',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET SESSION innodb_ft_enable_stopword = ON;
+
+-- Category matches are resolved in memory and searched by (user_id, category_id)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'transaction'
+                 AND index_name = 'idx_transaction_user_category') = 0,
+              'CREATE INDEX idx_transaction_user_category ON transaction (user_id, category_id)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,4 @@
+-- Highest budget threshold (50, 80 or 100 percent) already announced for the month. Alerts are sent
+-- by the statement that raises it, so each threshold fires once even with several app instances.
+
+ALTER TABLE budget ADD COLUMN alerted_percent INT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Opt-in flag for the recurring scheduler, and the index its due-plan scan runs on:
+-- WHERE auto_post = TRUE AND upcoming_date <= ? ORDER BY upcoming_date ... FOR UPDATE SKIP LOCKED
+
+ALTER TABLE saved_transaction ADD COLUMN auto_post BIT(1) NOT NULL DEFAULT b'0';
+
+CREATE INDEX idx_saved_transaction_due ON saved_transaction (auto_post, upcoming_date);
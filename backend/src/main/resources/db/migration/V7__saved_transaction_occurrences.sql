@@ -0,0 +1,19 @@
+-- RRULE text for plans with frequency CUSTOM
+ALTER TABLE saved_transaction ADD COLUMN recurrence_rule VARCHAR(255);
+
+-- Upcoming occurrence dates per saved plan, expanded from its rule up to a fixed horizon and refreshed
+-- whenever the plan moves. "Due in a month" and the cash-flow projection become range scans on
+-- occurrence_date instead of expanding every plan in Java.
+CREATE TABLE IF NOT EXISTS saved_transaction_occurrence (
+    plan_id BIGINT NOT NULL,
+    occurrence_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    transaction_type_id INT NOT NULL,
+    category_id INT NOT NULL,
+    amount DOUBLE NOT NULL,
+    PRIMARY KEY (plan_id, occurrence_date),
+    CONSTRAINT fk_occurrence_plan FOREIGN KEY (plan_id) REFERENCES saved_transaction (plan_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_occurrence_user_date ON saved_transaction_occurrence (user_id, occurrence_date);
+CREATE INDEX idx_occurrence_date ON saved_transaction_occurrence (occurrence_date);
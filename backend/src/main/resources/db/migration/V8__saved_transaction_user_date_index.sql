@@ -0,0 +1,3 @@
+-- Month listing of a user's saved plans: WHERE user_id = ? AND upcoming_date >= ? AND upcoming_date < ?
+
+CREATE INDEX idx_saved_transaction_user_date ON saved_transaction (user_id, upcoming_date);
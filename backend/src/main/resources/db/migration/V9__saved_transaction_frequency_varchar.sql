@@ -0,0 +1,5 @@
+-- Databases created by ddl-auto before V1 have frequency as a native enum('ONE_TIME','DAILY','MONTHLY'),
+-- which ddl-auto=update never widens, so the frequencies added with V7 were truncated on write.
+-- Brings those columns in line with V1; a no-op where the column is already VARCHAR(255).
+
+ALTER TABLE saved_transaction MODIFY frequency VARCHAR(255);
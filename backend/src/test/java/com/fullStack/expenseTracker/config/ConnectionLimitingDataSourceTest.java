@@ -0,0 +1,86 @@
+package com.fullStack.expenseTracker.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+
+    private ConnectionLimitingDataSource limiter;
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        limiter = new ConnectionLimitingDataSource(target, 2, 50);
+        registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry, "dataSource");
+    }
+
+    @Test
+    void waitsForAPermitAndTimesOut() throws SQLException {
+        limiter.getConnection();
+        limiter.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        verify(target, times(2)).getConnection();
+        assertEquals(1.0, registry.get("db.connection.limiter.timeouts").functionCounter().count());
+        assertEquals(2.0, registry.get("db.connection.limiter.active").gauge().value());
+    }
+
+    @Test
+    void closingReturnsThePermitOnlyOnce() throws SQLException {
+        Connection first = limiter.getConnection();
+        limiter.getConnection();
+        first.close();
+        first.close();
+
+        limiter.getConnection();
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+    }
+
+    @Test
+    void failedCheckoutDoesNotKeepThePermit() throws SQLException {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(failing, 1, 50);
+
+        assertThrows(SQLException.class, limited::getConnection);
+        SQLException second = assertThrows(SQLException.class, limited::getConnection);
+        assertEquals("pool exhausted", second.getMessage());
+    }
+
+    @Test
+    void permitIsReturnedWhenCloseFails() throws SQLException {
+        Connection broken = mock(Connection.class);
+        doThrow(new SQLException("socket closed")).when(broken).close();
+        DataSource single = mock(DataSource.class);
+        when(single.getConnection()).thenReturn(broken);
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(single, 1, 50);
+
+        Connection connection = limited.getConnection();
+        assertThrows(SQLException.class, connection::close);
+        limited.getConnection();
+        verify(single, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,88 @@
+package com.fullStack.expenseTracker.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RepositoryMetricsPostProcessorTest {
+
+    interface SampleRepository {
+        List<String> findAll();
+
+        Optional<String> findFirst();
+
+        void fail();
+    }
+
+    private MeterRegistry registry;
+
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        RepositoryMetricsPostProcessor postProcessor = new RepositoryMetricsPostProcessor(SampleRepository.class,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+
+        SampleRepository target = new SampleRepository() {
+            @Override
+            public List<String> findAll() {
+                return List.of("a", "b", "c");
+            }
+
+            @Override
+            public Optional<String> findFirst() {
+                return Optional.empty();
+            }
+
+            @Override
+            public void fail() {
+                throw new IllegalStateException("boom");
+            }
+        };
+        repository = (SampleRepository) postProcessor.postProcessAfterInitialization(target, "sampleRepository");
+    }
+
+    @Test
+    void recordsLatencyAndRowsPerMethod() {
+        repository.findAll();
+        repository.findAll();
+        repository.findFirst();
+
+        assertEquals(2, registry.get("repository.query").tags("method", "findAll", "outcome", "success").timer().count());
+        assertEquals(6.0, registry.get("repository.query.rows").tag("method", "findAll").summary().totalAmount());
+        assertEquals(0.0, registry.get("repository.query.rows").tag("method", "findFirst").summary().totalAmount());
+        assertEquals("SampleRepository",
+                registry.get("repository.query").tag("method", "findAll").timer().getId().getTag("repository"));
+    }
+
+    @Test
+    void failuresAreTimedSeparatelyAndRethrown() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, repository::fail);
+
+        assertEquals("boom", thrown.getMessage());
+        assertEquals(1, registry.get("repository.query").tags("method", "fail", "outcome", "error").timer().count());
+        assertEquals(0, registry.get("repository.query").tags("method", "fail", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void otherBeansAreLeftAlone() {
+        RepositoryMetricsPostProcessor postProcessor = new RepositoryMetricsPostProcessor(SampleRepository.class,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+}
@@ -37,6 +37,8 @@ import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
+import com.fullStack.expenseTracker.services.TransactionBatchService;
+import com.fullStack.expenseTracker.services.TransactionImportService;
 import com.fullStack.expenseTracker.services.TransactionService;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +52,14 @@ class TransactionControllerTest {
     @SuppressWarnings("removal")
     private TransactionService transactionService;
 
+    @MockBean
+    @SuppressWarnings("removal")
+    private TransactionImportService transactionImportService;
+
+    @MockBean
+    @SuppressWarnings("removal")
+    private TransactionBatchService transactionBatchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
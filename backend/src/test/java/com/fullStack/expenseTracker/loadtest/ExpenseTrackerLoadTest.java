@@ -0,0 +1,305 @@
+package com.fullStack.expenseTracker.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * End-to-end load test: boots the whole application on a random port against MySQL, fills it with
+ * {@link LoadTestDataGenerator} and lets {@code loadtest.concurrency} virtual users run a weighted mix of
+ * listing, posting, report and export calls over HTTP. p50/p95/p99 latency and throughput per endpoint
+ * are written to {@code target/load-test-report-<mode>.json} and {@code .md}.
+ * <p>
+ * Run with {@code mvn test -Ploadtest}; sizes and timings are system properties, e.g.
+ * {@code -Dloadtest.users=500 -Dloadtest.transactions-per-user=2000 -Dloadtest.duration-seconds=300}.
+ * <p>
+ * {@code -Dloadtest.virtual-threads=true} starts the server with {@code spring.threads.virtual.enabled}. The
+ * report is suffixed with the mode, so two runs at the same seed and a concurrency above Tomcat's 200
+ * workers compare the modes side by side:
+ * {@code -Dloadtest.concurrency=500 -Dloadtest.virtual-threads=false}, then {@code =true}.
+ */
+@Tag("loadtest")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.jwtSecret=bG9hZC10ZXN0LXNpZ25pbmcta2V5LW9mLWF0LWxlYXN0LTI1Ni1iaXRz",
+        "app.jwtExpirationMs=86400000",
+        "app.verificationCodeExpirationMs=600000",
+        "app.user.profile.upload.dir=target/uploads",
+        "sendgrid.api.key=unused",
+        "sendgrid.from.email=loadtest@example.com",
+        // Per-statement logging would dominate the measured latencies
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class ExpenseTrackerLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int TRANSACTIONS_PER_USER = Integer.getInteger("loadtest.transactions-per-user", 500);
+    private static final int PLANS_PER_USER = Integer.getInteger("loadtest.plans-per-user", 5);
+    private static final int BUDGETS_PER_USER = Integer.getInteger("loadtest.budgets-per-user", 12);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 15);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final LocalDate ANCHOR = LocalDate.parse(System.getProperty("loadtest.anchor", LocalDate.now().toString()));
+    // Fails the run when more than this share of measured requests did not return 200
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+
+    private static final Path REPORT_DIR = Path.of("target");
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void threadingMode(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RecurrenceIndexService recurrenceIndexService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private String[] tokens;
+
+    private int[] expenseCategoryIds;
+
+    @BeforeAll
+    void seed() throws Exception {
+        new LoadTestDataGenerator(jdbcTemplate, SEED, ANCHOR)
+                .generate(USERS, TRANSACTIONS_PER_USER, PLANS_PER_USER, BUDGETS_PER_USER,
+                        passwordEncoder.encode(LoadTestDataGenerator.PASSWORD));
+        recurrenceIndexService.rebuild();
+        expenseCategoryIds = jdbcTemplate.queryForList("SELECT c.category_id FROM category c " +
+                        "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+                        "WHERE tt.transaction_type_name = 'TYPE_EXPENSE' AND c.enabled = true ORDER BY c.category_id",
+                        Integer.class)
+                .stream().mapToInt(Integer::intValue).toArray();
+
+        // Sign-in is BCrypt-bound, so log everyone in up front rather than inside the measured window
+        tokens = new String[USERS + 1];
+        try (ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> logins = new ArrayList<>();
+            for (int userId = 1; userId <= USERS; userId++) {
+                int id = userId;
+                logins.add(pool.submit(() -> {
+                    tokens[id] = signIn(LoadTestDataGenerator.email(id));
+                    return null;
+                }));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+        }
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+
+        // The client side is always virtual so that only the server's threading mode differs between runs
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> virtualUsers = new ArrayList<>();
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                SplittableRandom random = new SplittableRandom(SEED + worker);
+                virtualUsers.add(pool.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil) {
+                        Operation operation = Operation.pick(random.nextInt(100));
+                        int userId = 1 + random.nextInt(USERS);
+                        long sent = System.nanoTime();
+                        boolean ok = send(operation, userId, random);
+                        long elapsed = System.nanoTime() - sent;
+                        if (now >= measureFrom) {
+                            recorder.record(operation.endpoint, elapsed, ok);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> virtualUser : virtualUsers) {
+                virtualUser.get();
+            }
+        }
+
+        String threads = VIRTUAL_THREADS ? "virtual" : "platform";
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("threads", threads);
+        run.put("users", USERS);
+        run.put("transactionsPerUser", TRANSACTIONS_PER_USER);
+        run.put("plansPerUser", PLANS_PER_USER);
+        run.put("budgetsPerUser", BUDGETS_PER_USER);
+        run.put("concurrency", CONCURRENCY);
+        run.put("warmupSeconds", WARMUP_SECONDS);
+        run.put("durationSeconds", DURATION_SECONDS);
+        run.put("seed", SEED);
+        run.put("anchor", ANCHOR.toString());
+        run.put("totalRequests", recorder.totalRequests());
+        run.put("totalErrors", recorder.totalErrors());
+        run.put("throughputPerSecond", recorder.totalRequests() / (double) DURATION_SECONDS);
+        FunctionTimer pinned = meterRegistry.find("jvm.threads.virtual.pinned").functionTimer();
+        if (pinned != null) {
+            run.put("pinnedVirtualThreads", (long) pinned.count());
+            run.put("pinnedMillis", pinned.totalTime(TimeUnit.MILLISECONDS));
+        }
+        FunctionCounter limiterTimeouts = meterRegistry.find("db.connection.limiter.timeouts").functionCounter();
+        if (limiterTimeouts != null) {
+            run.put("connectionLimiterTimeouts", (long) limiterTimeouts.count());
+        }
+
+        List<LatencyRecorder.EndpointStats> stats = recorder.stats(
+                List.of(Operation.values()).stream().map(operation -> operation.endpoint).toList(), DURATION_SECONDS);
+        LatencyRecorder.writeReport(REPORT_DIR, "load-test-report-" + threads, run, stats);
+        stats.forEach(endpoint -> log.info("{}", endpoint));
+
+        assertTrue(recorder.totalRequests() > 0, "No requests completed in the measured window");
+        assertTrue(recorder.totalErrors() <= recorder.totalRequests() * MAX_ERROR_RATE,
+                recorder.totalErrors() + " of " + recorder.totalRequests() + " requests failed");
+    }
+
+    private boolean send(Operation operation, int userId, SplittableRandom random) throws IOException, InterruptedException {
+        String email = LoadTestDataGenerator.email(userId);
+        HttpRequest.Builder request = switch (operation) {
+            case GET_BY_USER -> get("/mypockit/transaction/getByUser?email=" + email +
+                    "&pageNumber=0&pageSize=10&searchKey=&sortField=date&sortDirec=desc&transactionType=");
+            case NEW_TRANSACTION -> HttpRequest.newBuilder(uri("/mypockit/transaction/new"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                            "userEmail", email,
+                            "categoryId", expenseCategoryIds[random.nextInt(expenseCategoryIds.length)],
+                            "description", "load test",
+                            "amount", 1 + random.nextInt(10000) / 100.0,
+                            "date", ANCHOR.minusDays(random.nextInt(30)).toString()))));
+            case MONTHLY_SUMMARY -> get("/mypockit/report/getMonthlySummaryByUser?email=" + email);
+            case ANALYTICS -> get("/mypockit/report/analytics?userId=" + userId +
+                    "&from=" + ANCHOR.minusMonths(6).withDayOfMonth(1) + "&to=" + ANCHOR +
+                    "&bucket=MONTH&comparison=PREVIOUS_PERIOD");
+            case EXPORT_CSV -> get("/mypockit/report/export/csv?email=" + email +
+                    "&from=" + ANCHOR.minusMonths(3) + "&to=" + ANCHOR);
+            case EXPORT_PDF -> get("/mypockit/report/export/pdf?email=" + email +
+                    "&from=" + ANCHOR.minusMonths(1) + "&to=" + ANCHOR);
+        };
+        HttpResponse<Void> response = httpClient.send(
+                request.header("Authorization", "Bearer " + tokens[userId]).timeout(Duration.ofSeconds(60)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private String signIn(String email) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/mypockit/auth/signin"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("email", email, "password", LoadTestDataGenerator.PASSWORD))))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        String token = objectMapper.readTree(response.body()).path("token").asText(null);
+        assertNotNull(token, "Sign-in failed for " + email + ": " + response.statusCode() + " " + response.body());
+        return token;
+    }
+
+    private HttpRequest.Builder get(String pathAndQuery) {
+        return HttpRequest.newBuilder(uri(pathAndQuery)).GET();
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+
+    /**
+     * The request mix; weights add up to 100 and roughly follow a dashboard-heavy session.
+     */
+    private enum Operation {
+        GET_BY_USER("GET /transaction/getByUser", 45),
+        NEW_TRANSACTION("POST /transaction/new", 20),
+        MONTHLY_SUMMARY("GET /report/getMonthlySummaryByUser", 15),
+        ANALYTICS("GET /report/analytics", 10),
+        EXPORT_CSV("GET /report/export/csv", 7),
+        EXPORT_PDF("GET /report/export/pdf", 3);
+
+        private final String endpoint;
+
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return GET_BY_USER;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.fullStack.expenseTracker.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Collects response times per endpoint from many driver threads and renders them as a report.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        samplesByEndpoint.computeIfAbsent(endpoint, name -> new Samples()).add(nanos, ok);
+    }
+
+    long totalRequests() {
+        return samplesByEndpoint.values().stream().mapToLong(Samples::count).sum();
+    }
+
+    long totalErrors() {
+        return samplesByEndpoint.values().stream().mapToLong(Samples::errors).sum();
+    }
+
+    List<EndpointStats> stats(List<String> endpointOrder, double elapsedSeconds) {
+        return endpointOrder.stream()
+                .filter(samplesByEndpoint::containsKey)
+                .map(endpoint -> samplesByEndpoint.get(endpoint).stats(endpoint, elapsedSeconds))
+                .toList();
+    }
+
+    /**
+     * Writes {@code <baseName>.json} and a Markdown table {@code <baseName>.md} into {@code directory}.
+     */
+    static void writeReport(Path directory, String baseName, Map<String, Object> run, List<EndpointStats> endpoints)
+            throws IOException {
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>(run);
+        report.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve(baseName + ".json").toFile(), report);
+
+        StringBuilder markdown = new StringBuilder("# Load test report\n\n");
+        run.forEach((key, value) -> markdown.append("- ").append(key).append(": ").append(value).append('\n'));
+        markdown.append("\n| endpoint | requests | errors | req/s | p50 ms | p95 ms | p99 ms | max ms |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (EndpointStats stats : endpoints) {
+            markdown.append(String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                    stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.maxMs()));
+        }
+        Files.writeString(directory.resolve(baseName + ".md"), markdown);
+    }
+
+    record EndpointStats(String endpoint, long requests, long errors, double throughputPerSecond,
+                         double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+
+        private int count;
+
+        private long errors;
+
+        synchronized void add(long sample, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = sample;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized EndpointStats stats(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, count, errors, count / elapsedSeconds,
+                    percentileMs(sorted, 50), percentileMs(sorted, 95), percentileMs(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        // Nearest-rank percentile
+        private static double percentileMs(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
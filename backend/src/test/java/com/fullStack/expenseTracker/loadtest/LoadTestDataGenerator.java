@@ -0,0 +1,153 @@
+package com.fullStack.expenseTracker.loadtest;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills an empty schema with N users, M transactions per user, saved plans and budgets.
+ * Everything is drawn from one seeded {@link SplittableRandom}, so the same seed and sizes always give
+ * the same rows; dates are offsets back from {@code anchor}, so reports over "this month" stay populated.
+ * Roles, transaction types and categories are expected to exist already (the data seeders create them).
+ */
+@Slf4j
+class LoadTestDataGenerator {
+
+    static final String PASSWORD = "LoadTest#1";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int HISTORY_DAYS = 730;
+
+    private static final String[] DESCRIPTIONS = {
+            "groceries", "coffee", "rent", "bus ticket", "electricity", "phone bill", "dinner out",
+            "cinema", "books", "pharmacy", "salary", "freelance job", "interest", "gift", "fuel"
+    };
+
+    private static final ETransactionFrequency[] PLAN_FREQUENCIES = {
+            ETransactionFrequency.WEEKLY, ETransactionFrequency.BIWEEKLY, ETransactionFrequency.MONTHLY,
+            ETransactionFrequency.MONTH_END, ETransactionFrequency.QUARTERLY, ETransactionFrequency.YEARLY
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long seed;
+
+    private final LocalDate anchor;
+
+    LoadTestDataGenerator(JdbcTemplate jdbcTemplate, long seed, LocalDate anchor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.anchor = anchor;
+    }
+
+    static String email(long userId) {
+        return "load" + userId + "@example.com";
+    }
+
+    /**
+     * @param passwordHash encoded {@link #PASSWORD}, shared by every user so sign-in needs one hash
+     */
+    void generate(int users, int transactionsPerUser, int plansPerUser, int budgetsPerUser, String passwordHash) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<int[]> expenseCategories = categories("TYPE_EXPENSE");
+        List<int[]> incomeCategories = categories("TYPE_INCOME");
+        int userRole = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'ROLE_USER'", Integer.class);
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        List<Object[]> roleRows = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            userRows.add(new Object[]{userId, "load" + userId, email(userId), passwordHash});
+            roleRows.add(new Object[]{userId, userRole});
+        }
+        batch("INSERT INTO users (id, username, email, password, enabled) VALUES (?, ?, ?, ?, true)", userRows);
+        batch("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", roleRows);
+
+        List<Object[]> transactionRows = new ArrayList<>(BATCH_SIZE);
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < transactionsPerUser; i++) {
+                // Roughly one income row in eight, as in a typical ledger
+                boolean income = random.nextInt(8) == 0;
+                int[] category = pick(random, income ? incomeCategories : expenseCategories);
+                double amount = income ? 500 + random.nextInt(4500) : 1 + random.nextInt(20000) / 100.0;
+                transactionRows.add(new Object[]{userId, category[0], pick(random, DESCRIPTIONS), amount,
+                        Date.valueOf(anchor.minusDays(random.nextInt(HISTORY_DAYS)))});
+                if (transactionRows.size() == BATCH_SIZE) {
+                    batch("INSERT INTO transaction (user_id, category_id, description, amount, date) VALUES (?, ?, ?, ?, ?)", transactionRows);
+                    transactionRows.clear();
+                }
+            }
+        }
+        batch("INSERT INTO transaction (user_id, category_id, description, amount, date) VALUES (?, ?, ?, ?, ?)", transactionRows);
+
+        List<Object[]> planRows = new ArrayList<>();
+        long planId = 1;
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < plansPerUser; i++) {
+                boolean income = random.nextInt(4) == 0;
+                int[] category = pick(random, income ? incomeCategories : expenseCategories);
+                planRows.add(new Object[]{planId++, userId, category[1], category[0], 10 + random.nextInt(990),
+                        pick(random, DESCRIPTIONS), pick(random, PLAN_FREQUENCIES).name(),
+                        Date.valueOf(anchor.plusDays(random.nextInt(60)))});
+            }
+        }
+        // auto_post stays off so the recurring scheduler does not write behind the driver's back
+        batch("INSERT INTO saved_transaction (plan_id, user_id, transaction_type_id, category_id, amount, description, " +
+                "frequency, upcoming_date, auto_post) VALUES (?, ?, ?, ?, ?, ?, ?, ?, false)", planRows);
+
+        List<Object[]> budgetRows = new ArrayList<>();
+        long budgetId = 1;
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < budgetsPerUser; i++) {
+                LocalDate month = anchor.minusMonths(i);
+                budgetRows.add(new Object[]{budgetId++, userId, 500 + random.nextInt(2500), month.getMonthValue(), month.getYear()});
+            }
+        }
+        batch("INSERT INTO budget (budget_id, user_id, amount, month, year) VALUES (?, ?, ?, ?, ?)", budgetRows);
+
+        // Hibernate's pooled table generators hand out up to one allocation block below next_val
+        jdbcTemplate.update("UPDATE saved_transaction_seq SET next_val = ?", planId + 100);
+        jdbcTemplate.update("UPDATE budget_seq SET next_val = ?", budgetId + 100);
+
+        // Rows went in behind the services, so rebuild the monthly aggregates the same way V3 did
+        jdbcTemplate.update("DELETE FROM user_monthly_aggregate");
+        jdbcTemplate.update("INSERT INTO user_monthly_aggregate (user_id, year, month, transaction_type_id, category_id, total_amount, transaction_count) " +
+                "SELECT t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id, SUM(t.amount), COUNT(*) " +
+                "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+                "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id");
+        jdbcTemplate.execute("ANALYZE TABLE transaction, saved_transaction, budget, user_monthly_aggregate");
+
+        log.info("Generated {} users, {} transactions, {} saved plans and {} budgets (seed {}, anchor {})",
+                users, (long) users * transactionsPerUser, planRows.size(), budgetRows.size(), seed, anchor);
+    }
+
+    // {category_id, transaction_type_id} of the enabled categories of one type, in id order
+    private List<int[]> categories(String transactionTypeName) {
+        return jdbcTemplate.query("SELECT c.category_id, c.transaction_type_id FROM category c " +
+                        "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
+                        "WHERE tt.transaction_type_name = ? AND c.enabled = true ORDER BY c.category_id",
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, transactionTypeName);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
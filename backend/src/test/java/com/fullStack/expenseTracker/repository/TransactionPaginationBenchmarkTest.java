@@ -0,0 +1,115 @@
+package com.fullStack.expenseTracker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.util.TransactionCursor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares OFFSET paging against keyset paging for a single heavy user.
+ * Run with {@code mvn test -Pbenchmark}; the row count can be changed with {@code -Dbenchmark.rows=N}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class TransactionPaginationBenchmarkTest {
+
+    private static final String EMAIL = "heavy@example.com";
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 500;
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO transaction_type (transaction_type_id, transaction_type_name) VALUES (1, 'TYPE_EXPENSE')");
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name, transaction_type_id, enabled) VALUES (1, 'Food', 1, true)");
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password, enabled) VALUES (1, 'heavy', ?, 'x', true)", EMAIL);
+
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (ROWS + 1));
+        jdbcTemplate.update("INSERT INTO transaction (user_id, category_id, description, amount, date) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT 1, 1, CONCAT('row ', n), n % 500, DATE_SUB('2025-01-01', INTERVAL n % 3650 DAY) FROM seq", ROWS);
+        jdbcTemplate.execute("ANALYZE TABLE transaction");
+    }
+
+    @Test
+    void keysetPageCostIsIndependentOfDepth() {
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date"));
+        PageRequest deepPage = PageRequest.of(DEEP_PAGE, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date"));
+
+        // Locate the row just before page 500 once, outside the timed section
+        List<Transaction> beforeDeep = transactionRepository.findByUserAfter(EMAIL, "", "",
+                TransactionCursor.START.date(), TransactionCursor.START.transactionId(), DEEP_PAGE * PAGE_SIZE);
+        Transaction anchor = beforeDeep.get(beforeDeep.size() - 1);
+        TransactionCursor deepCursor = new TransactionCursor(anchor.getDate(), anchor.getTransactionId());
+
+        long offsetFirst = medianNanos(() -> transactionRepository.findByUser(EMAIL, firstPage, "", ""));
+        long offsetDeep = medianNanos(() -> transactionRepository.findByUser(EMAIL, deepPage, "", ""));
+        long keysetFirst = medianNanos(() -> transactionRepository.findByUserAfter(EMAIL, "", "",
+                TransactionCursor.START.date(), TransactionCursor.START.transactionId(), PAGE_SIZE + 1));
+        long keysetDeep = medianNanos(() -> transactionRepository.findByUserAfter(EMAIL, "", "",
+                deepCursor.date(), deepCursor.transactionId(), PAGE_SIZE + 1));
+
+        log.info("rows={} offset page 1={}ms page {}={}ms | keyset page 1={}ms page {}={}ms", ROWS,
+                offsetFirst / 1_000_000.0, DEEP_PAGE, offsetDeep / 1_000_000.0,
+                keysetFirst / 1_000_000.0, DEEP_PAGE, keysetDeep / 1_000_000.0);
+
+        assertEquals(PAGE_SIZE + 1, transactionRepository.findByUserAfter(EMAIL, "", "",
+                deepCursor.date(), deepCursor.transactionId(), PAGE_SIZE + 1).size());
+        // Allow for timer noise, but a deep seek must not scale with the number of skipped rows
+        assertTrue(keysetDeep <= keysetFirst * 3 + 5_000_000L,
+                "keyset page " + DEEP_PAGE + " took " + keysetDeep + "ns vs " + keysetFirst + "ns for page 1");
+    }
+
+    private long medianNanos(Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long[] samples = new long[21];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
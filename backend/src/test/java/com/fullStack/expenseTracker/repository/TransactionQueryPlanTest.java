@@ -0,0 +1,131 @@
+package com.fullStack.expenseTracker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs EXPLAIN against the hot report queries declared on {@link TransactionRepository} and fails
+ * if MySQL would answer any of them with a full scan of the transaction table.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionQueryPlanTest {
+
+    private static final Pattern NAMED_PARAM = Pattern.compile(":(\\w+)");
+
+    private static final Map<String, String> PARAM_VALUES = Map.ofEntries(
+            Map.entry("userId", "1"),
+            Map.entry("email", "'user1@example.com'"),
+            Map.entry("transactionTypeId", "1"),
+            Map.entry("categoryId", "1"),
+            Map.entry("month", "6"),
+            Map.entry("year", "2024"),
+            Map.entry("searchKey", "''"),
+            Map.entry("transactionType", "''"),
+            Map.entry("afterDate", "'2024-06-15'"),
+            Map.entry("afterId", "1000"),
+            Map.entry("limit", "21"),
+            Map.entry("beforeDate", "'2024-06-15'"),
+            Map.entry("from", "'2024-03-01'"),
+            Map.entry("to", "'2024-05-31'"),
+            Map.entry("previousFrom", "'2023-03-01'"),
+            Map.entry("previousTo", "'2023-05-31'")
+    );
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO transaction_type (transaction_type_id, transaction_type_name) VALUES (1, 'TYPE_EXPENSE'), (2, 'TYPE_INCOME')");
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name, transaction_type_id, enabled) VALUES (1, 'Food', 1, true), (2, 'Salary', 2, true)");
+        for (int u = 1; u <= 20; u++) {
+            jdbcTemplate.update("INSERT INTO users (id, username, email, password, enabled) VALUES (?, ?, ?, 'x', true)",
+                    u, "user" + u, "user" + u + "@example.com");
+        }
+        // Spread rows across users and three years so the optimizer sees realistic selectivity
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 20001");
+        jdbcTemplate.update("INSERT INTO transaction (user_id, category_id, description, amount, date) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000) " +
+                "SELECT 1 + n % 20, 1 + n % 2, CONCAT('row ', n), n % 300, DATE_SUB('2025-01-01', INTERVAL n % 1095 DAY) FROM seq");
+        jdbcTemplate.execute("ANALYZE TABLE transaction, users, category");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "findTotalByUserAndTransactionType",
+            "findTotalNoOfTransactionsByUser",
+            "findTotalByUserAndCategory",
+            "findMonthlySummaryByUser",
+            "findByUserAfter",
+            "findDayTotalsByUserBefore",
+            "findDailyCategoryTotals"
+    })
+    void hotQueryUsesAnIndexOnTransaction(String repositoryMethod) {
+        String sql = bind(nativeSql(repositoryMethod));
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        Map<String, Object> transactionRow = plan.stream()
+                .filter(row -> "t".equals(row.get("table")))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(transactionRow, "No plan row for transaction in " + plan);
+        assertFalse("ALL".equals(transactionRow.get("type")),
+                repositoryMethod + " falls back to a full scan: " + plan);
+        assertNotNull(transactionRow.get("key"), repositoryMethod + " does not use an index: " + plan);
+    }
+
+    private static String nativeSql(String methodName) {
+        for (Method method : TransactionRepository.class.getDeclaredMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            if (method.getName().equals(methodName) && query != null) {
+                return query.value();
+            }
+        }
+        throw new IllegalArgumentException("No @Query method named " + methodName);
+    }
+
+    private static String bind(String sql) {
+        Matcher matcher = NAMED_PARAM.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = PARAM_VALUES.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("No sample value for parameter " + matcher.group(1));
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.fullStack.expenseTracker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fullStack.expenseTracker.models.Transaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the LIKE '%key%' search against the full-text ranked id search followed by one batch
+ * hydration, for a single user and for the admin listing across all users.
+ * Run with {@code mvn test -Pbenchmark}; the row count can be changed with {@code -Dbenchmark.rows=N}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class TransactionSearchBenchmarkTest {
+
+    private static final String EMAIL = "user1@example.com";
+    private static final int USERS = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    // One row in RARE_EVERY carries the searched word, the rest share a handful of common ones
+    private static final int RARE_EVERY = 5_000;
+    private static final List<Integer> NO_CATEGORIES = List.of(-1);
+    private static final List<Integer> ALL_CATEGORIES = List.of(1, 2);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO transaction_type (transaction_type_id, transaction_type_name) VALUES (1, 'TYPE_EXPENSE'), (2, 'TYPE_INCOME')");
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name, transaction_type_id, enabled) VALUES (1, 'Food', 1, true), (2, 'Salary', 2, true)");
+        for (int u = 1; u <= USERS; u++) {
+            jdbcTemplate.update("INSERT INTO users (id, username, email, password, enabled) VALUES (?, ?, ?, 'x', true)",
+                    u, "user" + u, "user" + u + "@example.com");
+        }
+
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (ROWS + 1));
+        jdbcTemplate.update("INSERT INTO transaction (user_id, category_id, description, amount, date) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT 1 + n % ?, 1 + n % 2, " +
+                "CASE WHEN n % ? = 0 THEN CONCAT('anniversary dinner ', n) " +
+                "ELSE CONCAT(ELT(1 + n % 6, 'coffee', 'rent', 'groceries', 'fuel', 'lunch', 'books'), ' ', n) END, " +
+                "n % 500, DATE_SUB('2025-01-01', INTERVAL n % 3650 DAY) FROM seq", ROWS, USERS, RARE_EVERY);
+        jdbcTemplate.execute("ANALYZE TABLE transaction, users, category");
+    }
+
+    @Test
+    void fullTextSearchBeatsLikeScan() {
+        PageRequest userPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date"));
+        PageRequest adminPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "transaction_id"));
+
+        long likeUser = medianNanos(() -> transactionRepository.findByUser(EMAIL, userPage, "anniversary", ""));
+        long likeAdmin = medianNanos(() -> transactionRepository.findAll(adminPage, "anniversary"));
+        long ftsUser = medianNanos(() -> hydrate(transactionRepository.searchIdsByUser(EMAIL, "\"anniversary\"",
+                NO_CATEGORIES, ALL_CATEGORIES, PAGE_SIZE, 0)));
+        long ftsAdmin = medianNanos(() -> hydrate(transactionRepository.searchIds("\"anniversary\"", "anniversary",
+                NO_CATEGORIES, PAGE_SIZE, 0)));
+
+        log.info("rows={} user search: like={}ms fulltext={}ms | admin search: like={}ms fulltext={}ms", ROWS,
+                likeUser / 1_000_000.0, ftsUser / 1_000_000.0, likeAdmin / 1_000_000.0, ftsAdmin / 1_000_000.0);
+
+        List<Long> ids = transactionRepository.searchIds("\"anniversary\"", "anniversary", NO_CATEGORIES, PAGE_SIZE, 0);
+        assertEquals(Math.min(PAGE_SIZE, ROWS / RARE_EVERY), ids.size());
+        assertEquals(ROWS / RARE_EVERY, transactionRepository.countSearchHits("\"anniversary\"", "anniversary", NO_CATEGORIES));
+        assertTrue(ftsAdmin < likeAdmin, "full-text admin search took " + ftsAdmin + "ns vs " + likeAdmin + "ns with LIKE");
+    }
+
+    private List<Transaction> hydrate(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : transactionRepository.findAllWithDetailsByIdIn(ids);
+    }
+
+    private long medianNanos(Supplier<?> query) {
+        for (int i = 0; i < 3; i++) {
+            query.get();
+        }
+        long[] samples = new long[11];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
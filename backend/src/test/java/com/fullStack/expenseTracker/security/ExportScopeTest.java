@@ -0,0 +1,41 @@
+package com.fullStack.expenseTracker.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class ExportScopeTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    @Test
+    void emailFor_ShouldKeepUsersToTheirOwnTransactions() {
+        Authentication user = authentication("ROLE_USER");
+
+        assertThat(ExportScope.emailFor(user, " Jane@Example.com")).isEqualTo(EMAIL);
+        assertThatThrownBy(() -> ExportScope.emailFor(user, "john@example.com")).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> ExportScope.emailFor(user, "")).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> ExportScope.emailFor(user, null)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void emailFor_ShouldLetAdminsExportAnyUserOrEveryone() {
+        Authentication admin = authentication("ROLE_ADMIN");
+
+        assertThat(ExportScope.emailFor(admin, "john@example.com")).isEqualTo("john@example.com");
+        assertThat(ExportScope.emailFor(admin, null)).isNull();
+    }
+
+    private static Authentication authentication(String role) {
+        UserDetailsImpl principal = new UserDetailsImpl(1L, "jane", EMAIL, "secret",
+                List.of(new SimpleGrantedAuthority(role)), true);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
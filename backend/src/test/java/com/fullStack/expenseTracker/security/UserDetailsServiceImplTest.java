@@ -0,0 +1,68 @@
+package com.fullStack.expenseTracker.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fullStack.expenseTracker.events.UserSecurityChangedEvent;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    @Mock private UserRepository userRepository;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(100, 60_000);
+        userDetailsService.userRepository = userRepository;
+    }
+
+    @Test
+    void loadUserByUsername_ShouldServeRepeatLookupsFromCache() {
+        given(userRepository.findWithRolesByEmail(EMAIL)).willReturn(Optional.of(user(true)));
+
+        userDetailsService.loadUserByUsername(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(1)).findWithRolesByEmail(EMAIL);
+        assertThat(userDetailsService.getCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onUserSecurityChanged_ShouldReloadChangedPrincipal() {
+        given(userRepository.findWithRolesByEmail(EMAIL))
+                .willReturn(Optional.of(user(true)))
+                .willReturn(Optional.of(user(false)));
+
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).isEnabled()).isTrue();
+        userDetailsService.onUserSecurityChanged(new UserSecurityChangedEvent(1L, EMAIL));
+
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).isEnabled()).isFalse();
+        assertThat(userDetailsService.getCacheStats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    private static User user(boolean enabled) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("jane");
+        user.setEmail(EMAIL);
+        user.setPassword("secret");
+        user.setEnabled(enabled);
+        return user;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fullStack.expenseTracker.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fullStack.expenseTracker.security.UserDetailsImpl;
+import com.fullStack.expenseTracker.security.UserDetailsServiceImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+class AuthTokenFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock private JwtUtils jwtUtils;
+    @Mock private UserDetailsServiceImpl userDetailsService;
+    @Spy private JwtAuthenticationCache jwtAuthenticationCache = new JwtAuthenticationCache(100, 60_000);
+
+    @InjectMocks private AuthTokenFilter authTokenFilter;
+
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        claims = Jwts.claims().setSubject("user@test.com");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 3_600_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void repeatedRequestsWithSameTokenAreServedFromCache() throws Exception {
+        given(jwtUtils.parseValidClaims(TOKEN)).willReturn(claims);
+        given(userDetailsService.loadUserByUsername("user@test.com")).willReturn(principal(true));
+
+        filter();
+        filter();
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user");
+        verify(jwtUtils, times(1)).parseValidClaims(TOKEN);
+        verify(userDetailsService, times(1)).loadUserByUsername("user@test.com");
+    }
+
+    @Test
+    void invalidatingUserForcesFreshLookup() throws Exception {
+        given(jwtUtils.parseValidClaims(TOKEN)).willReturn(claims);
+        given(userDetailsService.loadUserByUsername("user@test.com")).willReturn(principal(true), principal(false));
+
+        filter();
+        jwtAuthenticationCache.invalidateUser(1L);
+        SecurityContextHolder.clearContext();
+        filter();
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@test.com");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        authTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static UserDetailsImpl principal(boolean enabled) {
+        return new UserDetailsImpl(1L, "user", "user@test.com", "x",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), enabled);
+    }
+}
@@ -0,0 +1,109 @@
+package com.fullStack.expenseTracker.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionExportRowDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+
+class ReportExportServiceTest {
+
+    private static final int ROWS = 5_000;
+
+    private ReportExportService reportExportService;
+
+    private AtomicInteger produced;
+
+    @BeforeEach
+    void setUp() {
+        reportExportService = new ReportExportService();
+        ReflectionTestUtils.setField(reportExportService, "excelRowWindow", 100);
+        ReflectionTestUtils.setField(reportExportService, "pdfFlushRows", 500);
+        // Deliberately tiny so rows and multi-byte characters straddle chunk boundaries
+        ReflectionTestUtils.setField(reportExportService, "chunkSize", 64);
+        produced = new AtomicInteger();
+    }
+
+    @Test
+    void writeExcel_ShouldWriteEveryRowFromTheStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reportExportService.writeExcel("Transactions", transactions(), out);
+
+        assertThat(produced.get()).isEqualTo(ROWS);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            XSSFSheet sheet = workbook.getSheet("Transactions");
+            assertThat(sheet.getLastRowNum()).isEqualTo(ROWS);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Date");
+            assertThat(sheet.getRow(ROWS).getCell(2).getStringCellValue()).isEqualTo("row " + (ROWS - 1));
+        }
+    }
+
+    @Test
+    void writePdf_ShouldProduceACompleteDocument() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reportExportService.writePdf("Transactions", transactions(), out);
+
+        assertThat(produced.get()).isEqualTo(ROWS);
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertThat(pdf).startsWith("%PDF");
+        assertThat(pdf.trim()).endsWith("%%EOF");
+    }
+
+    @Test
+    void writeCsv_ShouldQuoteOnlyFieldsThatNeedIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Stream<TransactionExportRowDto> rows = Stream.of(
+                new TransactionExportRowDto(1L, LocalDate.of(2024, 3, 5), "Food", ETransactionType.TYPE_EXPENSE, "Lunch, with \"friends\"", 12.5),
+                new TransactionExportRowDto(2L, LocalDate.of(2024, 12, 31), "Café ☕", ETransactionType.TYPE_INCOME, "Bonus 💰", 10_000_000)
+        );
+
+        reportExportService.writeCsv(rows, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "transactionId,date,category,transactionType,description,amount\r\n" +
+                "1,2024-03-05,Food,TYPE_EXPENSE,\"Lunch, with \"\"friends\"\"\",12.5\r\n" +
+                "2,2024-12-31,Café ☕,TYPE_INCOME,Bonus 💰,10000000\r\n");
+    }
+
+    @Test
+    void writeNdjson_ShouldEscapeStringsAndWriteOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Stream<TransactionExportRowDto> rows = Stream.of(
+                new TransactionExportRowDto(7L, LocalDate.of(2024, 1, 9), null, ETransactionType.TYPE_EXPENSE, "a\"b\\c\nd\u0001", 3.25)
+        );
+
+        reportExportService.writeNdjson(rows, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"transactionId\":7,\"date\":\"2024-01-09\",\"category\":null,\"transactionType\":\"TYPE_EXPENSE\"," +
+                "\"description\":\"a\\\"b\\\\c\\nd\\u0001\",\"amount\":3.25}\n");
+    }
+
+    // Rows are generated lazily so the writers are exercised the same way as a database cursor
+    private Stream<Transaction> transactions() {
+        Category category = new Category();
+        category.setCategoryName("Food");
+        return Stream.iterate(0, i -> i + 1)
+                .limit(ROWS)
+                .map(i -> {
+                    produced.incrementAndGet();
+                    return new Transaction(null, category, "row " + i, i % 300, LocalDate.of(2024, 1, 1).plusDays(i % 365));
+                });
+    }
+}
@@ -1,17 +1,23 @@
 package com.fullStack.expenseTracker.services;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
@@ -20,10 +26,18 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CursorPageResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionDayDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
@@ -36,6 +50,7 @@ import com.fullStack.expenseTracker.models.TransactionType;
 import com.fullStack.expenseTracker.models.User;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
 import com.fullStack.expenseTracker.services.impls.TransactionServiceImpl;
+import com.fullStack.expenseTracker.util.TransactionCursor;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionServiceTest {
@@ -49,6 +64,15 @@ class TransactionServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private MonthlyAggregateService monthlyAggregateService;
+
+    @Mock
+    private TransactionSearchService transactionSearchService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -228,4 +252,115 @@ class TransactionServiceTest {
         assertNotNull(exception);
         verify(transactionRepository, never()).deleteById(anyLong());
     }
+
+    @Test
+    void testGetTransactionsByUserAfter_ReturnsNextCursorWhenMoreRowsExist() throws Exception {
+        // Arrange
+        Transaction older = new Transaction(user, category, "Older", 50.0, LocalDate.now().minusDays(1));
+        older.setTransactionId(2L);
+        when(transactionRepository.findByUserAfter(eq("test@example.com"), eq(""), eq(""),
+                eq(TransactionCursor.START.date()), eq(TransactionCursor.START.transactionId()), eq(2)))
+                .thenReturn(List.of(transaction, older));
+
+        // Act
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.getTransactionsByUserAfter(
+                "test@example.com", "", 1, "", "");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CursorPageResponseDto<?> page = (CursorPageResponseDto<?>) Objects.requireNonNull(response.getBody()).getResponse();
+        assertTrue(page.isHasMore());
+        assertEquals(new TransactionCursor(transaction.getDate(), 1L), TransactionCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetTransactionsByUserAfter_InvalidCursor() {
+        assertThrows(TransactionServiceLogicException.class, () ->
+                transactionService.getTransactionsByUserAfter("test@example.com", "not-a-cursor", 10, "", ""));
+    }
+
+    @Test
+    void testGetTransactionsByUserAfter_InvalidPageSize() {
+        assertThrows(TransactionServiceLogicException.class, () ->
+                transactionService.getTransactionsByUserAfter("test@example.com", "", 0, "", ""));
+        verify(transactionRepository, never()).findByUserAfter(any(), any(), any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testGetTransactionsByUserAfter_ClampsOversizedPages() throws Exception {
+        // Arrange
+        when(transactionRepository.findByUserAfter(eq("test@example.com"), eq(""), eq(""),
+                eq(TransactionCursor.START.date()), eq(TransactionCursor.START.transactionId()), eq(501)))
+                .thenReturn(List.of(transaction));
+
+        // Act
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.getTransactionsByUserAfter(
+                "test@example.com", "", Integer.MAX_VALUE, "", "");
+
+        // Assert
+        CursorPageResponseDto<?> page = (CursorPageResponseDto<?>) Objects.requireNonNull(response.getBody()).getResponse();
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void testGetTransactionFeed_ReturnsWholeDaysAndStopsAtADayBoundary() throws Exception {
+        // Arrange
+        LocalDate mar10 = LocalDate.of(2024, 3, 10);
+        LocalDate mar8 = LocalDate.of(2024, 3, 8);
+        LocalDate mar5 = LocalDate.of(2024, 3, 5);
+        ReflectionTestUtils.setField(transactionService, "feedMaxRows", 3);
+        Transaction second = new Transaction(user, category, "Lunch", 10.0, mar10);
+        second.setTransactionId(2L);
+        Transaction first = new Transaction(user, category, "Lunch", 20.0, mar10);
+        first.setTransactionId(1L);
+        when(transactionRepository.findDayTotalsByUserBefore("test@example.com", "", "", TransactionCursor.START.date(), 8))
+                .thenReturn(List.<Object[]>of(
+                        new Object[]{Date.valueOf(mar10), 0.0, 30.0, 2L},
+                        new Object[]{Date.valueOf(mar8), 100.0, 0.0, 2L},
+                        new Object[]{Date.valueOf(mar5), 0.0, 5.0, 1L}));
+        // The second day would take the page past three rows, so it starts the next page
+        when(transactionRepository.findByUserBetweenDates("test@example.com", "", "", mar10, mar10))
+                .thenReturn(List.of(second, first));
+
+        // Act
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.getTransactionFeed("test@example.com", null, 7, null, null);
+
+        // Assert
+        CursorPageResponseDto<?> page = (CursorPageResponseDto<?>) Objects.requireNonNull(response.getBody()).getResponse();
+        @SuppressWarnings("unchecked")
+        List<TransactionDayDto> days = (List<TransactionDayDto>) page.getData();
+        assertEquals(1, days.size());
+        assertEquals(mar10, days.get(0).getDate());
+        assertEquals(30.0, days.get(0).getExpense());
+        assertEquals(List.of(2L, 1L), days.get(0).getTransactions().stream().map(t -> t.getTransactionId()).toList());
+        assertTrue(page.isHasMore());
+        assertEquals(TransactionCursor.afterDay(mar10), TransactionCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetTransactionsByUser_SearchKeepsRequestedSort() throws Exception {
+        // Arrange
+        when(transactionSearchService.isSearchable("lunch")).thenReturn(true);
+        when(transactionSearchService.searchByUser(eq("test@example.com"), eq("lunch"), eq(""), any()))
+                .thenReturn(new PageImpl<>(List.of(transaction)));
+
+        // Act
+        transactionService.getTransactionsByUser("test@example.com", 0, 10, "lunch", "amount", "DESC", "");
+
+        // Assert
+        verify(transactionSearchService).searchByUser("test@example.com", "lunch", "",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "amount")));
+    }
+
+    @Test
+    void testGetTransactionsByUser_SearchDataAccessException() {
+        // Arrange
+        when(transactionSearchService.isSearchable("lunch")).thenReturn(true);
+        when(transactionSearchService.searchByUser(eq("test@example.com"), eq("lunch"), eq(""), any()))
+                .thenThrow(new DataAccessResourceFailureException("Database error"));
+
+        // Act & Assert
+        assertThrows(TransactionServiceLogicException.class, () ->
+                transactionService.getTransactionsByUser("test@example.com", 0, 10, "lunch", "date", "DESC", ""));
+    }
 }
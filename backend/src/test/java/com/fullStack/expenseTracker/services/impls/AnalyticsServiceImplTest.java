@@ -0,0 +1,98 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.AnalyticsReportDto;
+import com.fullStack.expenseTracker.enums.EAnalyticsBucket;
+import com.fullStack.expenseTracker.enums.EAnalyticsComparison;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+    private static final TransactionType INCOME = new TransactionType(2, ETransactionType.TYPE_INCOME);
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private ReferenceDataService referenceDataService;
+    @Mock private DataVersionService dataVersionService;
+
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new AnalyticsServiceImpl(100, 60);
+        ReflectionTestUtils.setField(analyticsService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(analyticsService, "referenceDataService", referenceDataService);
+        ReflectionTestUtils.setField(analyticsService, "dataVersionService", dataVersionService);
+        ReflectionTestUtils.setField(analyticsService, "maxBuckets", 400);
+    }
+
+    @Test
+    void getAnalytics_ShouldBucketBothPeriodsFromOneScanAndCachePerVersion() throws Exception {
+        given(dataVersionService.userVersion(7L)).willReturn(1L, 1L, 2L);
+        given(referenceDataService.findCategory(1)).willReturn(new Category(1, "Food", EXPENSE, true));
+        given(referenceDataService.findCategory(2)).willReturn(new Category(2, "Salary", INCOME, true));
+        given(referenceDataService.findTransactionType(1)).willReturn(EXPENSE);
+        given(referenceDataService.findTransactionType(2)).willReturn(INCOME);
+        given(transactionRepository.findDailyCategoryTotals(7L, FROM, TO, FROM.minusYears(1), TO.minusYears(1)))
+                .willReturn(List.<Object[]>of(
+                        new Object[]{Date.valueOf("2024-01-05"), 1, 40.0, 2L},
+                        new Object[]{Date.valueOf("2024-03-20"), 2, 1000.0, 1L},
+                        new Object[]{Date.valueOf("2023-01-09"), 1, 25.0, 1L}));
+
+        AnalyticsReportDto report = (AnalyticsReportDto) analyticsService.getAnalytics(7L, FROM, TO,
+                EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR).getBody().getResponse();
+        analyticsService.getAnalytics(7L, FROM, TO, EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR);
+        analyticsService.getAnalytics(7L, FROM, TO, EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR);
+
+        assertThat(report.getBuckets()).hasSize(3);
+        assertThat(report.getBuckets().get(0).getExpense()).isEqualTo(40.0);
+        assertThat(report.getBuckets().get(0).getPreviousExpense()).isEqualTo(25.0);
+        assertThat(report.getBuckets().get(0).getPreviousStart()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(report.getBuckets().get(2).getIncome()).isEqualTo(1000.0);
+        assertThat(report.getExpense()).isEqualTo(40.0);
+        assertThat(report.getPreviousExpense()).isEqualTo(25.0);
+        assertThat(report.getCategories()).extracting("categoryName").containsExactly("Salary", "Food");
+        // Same version served from the cache; a new version recomputes
+        verify(transactionRepository, times(2)).findDailyCategoryTotals(7L, FROM, TO, FROM.minusYears(1), TO.minusYears(1));
+    }
+
+    @Test
+    void getAnalytics_ShouldSurviveOtherUsersWritesAndRecomputeOnBulkChanges() throws Exception {
+        DataVersionServiceImpl versions = new DataVersionServiceImpl();
+        ReflectionTestUtils.setField(analyticsService, "dataVersionService", versions);
+        given(transactionRepository.findDailyCategoryTotals(7L, FROM, TO, FROM.minusYears(1), TO.minusYears(1)))
+                .willReturn(List.<Object[]>of());
+
+        analyticsService.getAnalytics(7L, FROM, TO, EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR);
+        versions.markChanged(8L);
+        analyticsService.getAnalytics(7L, FROM, TO, EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR);
+        verify(transactionRepository, times(1)).findDailyCategoryTotals(7L, FROM, TO, FROM.minusYears(1), TO.minusYears(1));
+
+        versions.markAllChanged();
+        analyticsService.getAnalytics(7L, FROM, TO, EAnalyticsBucket.MONTH, EAnalyticsComparison.PREVIOUS_YEAR);
+        verify(transactionRepository, times(2)).findDailyCategoryTotals(7L, FROM, TO, FROM.minusYears(1), TO.minusYears(1));
+    }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
@@ -41,6 +42,7 @@ class AuthServiceImplTest {
     @Mock private NotificationService notificationService;
     @Mock private RoleFactory roleFactory;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks private AuthServiceImpl authService;
 
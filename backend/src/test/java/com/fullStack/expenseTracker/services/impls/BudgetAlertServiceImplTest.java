@@ -0,0 +1,110 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.BudgetLedgerService;
+import com.fullStack.expenseTracker.services.NotificationGateway;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetAlertServiceImplTest {
+
+    @Mock private BudgetLedgerService budgetLedgerService;
+    @Mock private BudgetRepository budgetRepository;
+    @Mock private NotificationGateway notificationGateway;
+    @Mock private UserRepository userRepository;
+
+    @InjectMocks private BudgetAlertServiceImpl budgetAlertService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(budgetAlertService, "coalesceMs", 50L);
+        budgetAlertService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        budgetAlertService.stop();
+    }
+
+    @Test
+    void evaluate_ShouldAlertOnlyTheOwnerOnceWhenCrossingThreshold() {
+        given(budgetRepository.findByUserIdAndMonthAndYear(7L, 3, 2024L)).willReturn(budget(50));
+        given(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).willReturn(85.0);
+        given(budgetRepository.raiseAlertedPercent(1L, 80)).willReturn(1);
+        given(userRepository.findById(7L)).willReturn(Optional.of(User.builder().id(7L).email("jane@example.com").build()));
+
+        budgetAlertService.evaluate(7L, 3, 2024);
+
+        verify(notificationGateway).sendAlertToUser(eq("jane@example.com"), eq("BUDGET_ALERT"),
+                argThat(payload -> payload.get("threshold").equals(80)));
+        verify(notificationGateway, never()).sendAlert(anyString(), anyMap());
+    }
+
+    @Test
+    void evaluate_ShouldStayQuietWhenThresholdAlreadyAnnounced() {
+        given(budgetRepository.findByUserIdAndMonthAndYear(7L, 3, 2024L)).willReturn(budget(80));
+        given(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).willReturn(95.0);
+
+        budgetAlertService.evaluate(7L, 3, 2024);
+
+        verify(budgetRepository, never()).raiseAlertedPercent(anyLong(), anyInt());
+        verify(notificationGateway, never()).sendAlertToUser(anyString(), eq("BUDGET_ALERT"), anyMap());
+    }
+
+    @Test
+    void evaluate_ShouldRearmThresholdsWhenSpendingDrops() {
+        given(budgetRepository.findByUserIdAndMonthAndYear(7L, 3, 2024L)).willReturn(budget(100));
+        given(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).willReturn(60.0);
+
+        budgetAlertService.evaluate(7L, 3, 2024);
+
+        verify(budgetRepository).lowerAlertedPercent(1L, 50);
+        verify(notificationGateway, never()).sendAlertToUser(anyString(), eq("BUDGET_ALERT"), anyMap());
+    }
+
+    @Test
+    void onBudgetEvaluationRequested_ShouldCoalesceBurstIntoOneEvaluation() {
+        given(budgetRepository.findByUserIdAndMonthAndYear(7L, 3, 2024L)).willReturn(budget(0));
+        given(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).willReturn(10.0);
+
+        for (int i = 0; i < 20; i++) {
+            budgetAlertService.onBudgetEvaluationRequested(new BudgetEvaluationRequestedEvent(7L, 3, 2024));
+        }
+
+        verify(budgetRepository, timeout(1000)).findByUserIdAndMonthAndYear(7L, 3, 2024L);
+        verify(budgetRepository, after(200)).findByUserIdAndMonthAndYear(7L, 3, 2024L);
+    }
+
+    private static Budget budget(int alertedPercent) {
+        Budget budget = new Budget(7L, 100, 3, 2024);
+        budget.setBudgetId(1L);
+        budget.setAlertedPercent(alertedPercent);
+        return budget;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.BudgetLedgerStatsDto;
+import com.fullStack.expenseTracker.events.MonthlyAggregateChangedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregatesResetEvent;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetLedgerServiceImplTest {
+
+    @Mock private MonthlyAggregateService monthlyAggregateService;
+
+    private BudgetLedgerServiceImpl budgetLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        budgetLedgerService = new BudgetLedgerServiceImpl(100, 60);
+        ReflectionTestUtils.setField(budgetLedgerService, "monthlyAggregateService", monthlyAggregateService);
+    }
+
+    @Test
+    void getExpenseTotal_ShouldSeedOnceAndFollowCommittedExpenseDeltas() {
+        given(monthlyAggregateService.getTotalByTransactionType(7L, 1, 3, 2024)).willReturn(100.10);
+
+        assertThat(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).isEqualTo(100.10);
+        budgetLedgerService.onMonthlyAggregateChanged(new MonthlyAggregateChangedEvent(7L, 1, 3, 2024, 12.35));
+        budgetLedgerService.onMonthlyAggregateChanged(new MonthlyAggregateChangedEvent(7L, 1, 3, 2024, -0.45));
+        // Income and untracked months are ignored
+        budgetLedgerService.onMonthlyAggregateChanged(new MonthlyAggregateChangedEvent(7L, 2, 3, 2024, 500));
+        budgetLedgerService.onMonthlyAggregateChanged(new MonthlyAggregateChangedEvent(7L, 1, 4, 2024, 5));
+
+        assertThat(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).isEqualTo(112.0);
+        verify(monthlyAggregateService, times(1)).getTotalByTransactionType(7L, 1, 3, 2024);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDriftAgainstAggregates() {
+        given(monthlyAggregateService.getTotalByTransactionType(7L, 1, 3, 2024)).willReturn(50.0);
+        budgetLedgerService.getExpenseTotal(7L, 3, 2024);
+        given(monthlyAggregateService.getMonthlyTotalsByUsers(anyCollection(), eq(3), eq(2024)))
+                .willReturn(List.<Object[]>of(new Object[]{7L, 42.5, null, 3L}));
+
+        BudgetLedgerStatsDto stats = budgetLedgerService.reconcile();
+
+        assertThat(stats.getLastCheckedEntries()).isEqualTo(1);
+        assertThat(stats.getLastDriftedEntries()).isEqualTo(1);
+        assertThat(stats.getLastDriftCents()).isEqualTo(750);
+        assertThat(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).isEqualTo(42.5);
+    }
+
+    @Test
+    void onMonthlyAggregatesReset_ShouldReseedAffectedUser() {
+        given(monthlyAggregateService.getTotalByTransactionType(7L, 1, 3, 2024)).willReturn(10.0, 0.0);
+        budgetLedgerService.getExpenseTotal(7L, 3, 2024);
+
+        budgetLedgerService.onMonthlyAggregatesReset(new MonthlyAggregatesResetEvent(7L));
+
+        assertThat(budgetLedgerService.getExpenseTotal(7L, 3, 2024)).isZero();
+    }
+}
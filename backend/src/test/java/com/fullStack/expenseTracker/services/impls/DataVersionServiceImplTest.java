@@ -0,0 +1,37 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DataVersionServiceImplTest {
+
+    private final DataVersionServiceImpl dataVersionService = new DataVersionServiceImpl();
+
+    @Test
+    void markChanged_ShouldOnlyMoveThatUsersVersion() {
+        long bulk = dataVersionService.bulkVersion();
+        long any = dataVersionService.currentVersion();
+        long other = dataVersionService.userVersion(2L);
+
+        dataVersionService.markChanged(1L);
+
+        assertThat(dataVersionService.userVersion(1L)).isEqualTo(1L);
+        assertThat(dataVersionService.userVersion(2L)).isEqualTo(other);
+        assertThat(dataVersionService.bulkVersion()).isEqualTo(bulk);
+        assertThat(dataVersionService.currentVersion()).isGreaterThan(any);
+    }
+
+    @Test
+    void markAllChanged_ShouldMoveTheBulkVersionButNoUserVersion() {
+        dataVersionService.markChanged(1L);
+        long bulk = dataVersionService.bulkVersion();
+        long any = dataVersionService.currentVersion();
+
+        dataVersionService.markAllChanged();
+
+        assertThat(dataVersionService.bulkVersion()).isGreaterThan(bulk);
+        assertThat(dataVersionService.currentVersion()).isGreaterThan(any);
+        assertThat(dataVersionService.userVersion(1L)).isEqualTo(1L);
+    }
+}
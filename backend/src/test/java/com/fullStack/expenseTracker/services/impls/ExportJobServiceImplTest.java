@@ -0,0 +1,143 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ExportJobResponseDto;
+import com.fullStack.expenseTracker.dto.requests.ExportJobRequestDto;
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.EExportJobStatus;
+import com.fullStack.expenseTracker.exceptions.ExportJobNotFoundException;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.services.NotificationGateway;
+import com.fullStack.expenseTracker.services.ReportExportService;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobServiceImplTest {
+
+    private static final String OWNER = "alice@example.com";
+
+    @Mock private ReportExportService reportExportService;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private UserRepository userRepository;
+    @Mock private NotificationGateway notificationGateway;
+
+    @InjectMocks private ExportJobServiceImpl exportJobService;
+
+    @TempDir
+    Path spoolDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(exportJobService, "spoolDirPath", spoolDir.toString());
+        ReflectionTestUtils.setField(exportJobService, "workers", 1);
+        ReflectionTestUtils.setField(exportJobService, "queueCapacity", 4);
+        ReflectionTestUtils.setField(exportJobService, "ttlMinutes", 60L);
+        exportJobService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.stop();
+    }
+
+    @Test
+    void createJob_ShouldReuseJobForSameFilterAndDataVersion() throws Exception {
+        given(dataVersionService.currentVersion()).willReturn(7L);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("0123456789".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(reportExportService).exportCsv(any(), any());
+
+        ExportJobRequestDto request = new ExportJobRequestDto(EExportFormat.CSV, null, null, null, null, null, null);
+        ResponseEntity<ApiResponseDto<?>> first = exportJobService.createJob(OWNER, request);
+        verify(notificationGateway, timeout(5000)).sendAlertToUser(eq(OWNER), eq("EXPORT_READY"), anyMap());
+        ResponseEntity<ApiResponseDto<?>> second = exportJobService.createJob(OWNER, request);
+
+        ExportJobResponseDto created = (ExportJobResponseDto) first.getBody().getResponse();
+        ExportJobResponseDto reused = (ExportJobResponseDto) second.getBody().getResponse();
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(reused.getJobId()).isEqualTo(created.getJobId());
+        assertThat(reused.getStatus()).isEqualTo(EExportJobStatus.COMPLETED);
+        verify(reportExportService, times(1)).exportCsv(any(), any());
+    }
+
+    @Test
+    void download_ShouldServeRequestedByteRange() throws Exception {
+        given(dataVersionService.currentVersion()).willReturn(1L);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("0123456789".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(reportExportService).exportNdjson(any(), any());
+
+        ExportJobRequestDto request = new ExportJobRequestDto(EExportFormat.NDJSON, null, null, null, null, null, null);
+        String jobId = ((ExportJobResponseDto) exportJobService.createJob(OWNER, request).getBody().getResponse()).getJobId();
+        verify(notificationGateway, timeout(5000)).sendAlertToUser(eq(OWNER), eq("EXPORT_READY"), anyMap());
+
+        ResponseEntity<StreamingResponseBody> partial = exportJobService.download(OWNER, jobId, "bytes=2-5");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        partial.getBody().writeTo(out);
+
+        assertThat(partial.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(partial.getHeaders().getFirst("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo("2345");
+        assertThat(exportJobService.download(OWNER, jobId, "bytes=10-").getStatusCode())
+                .isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+
+    @Test
+    void getJobAndDownload_ShouldHideJobsOfOtherUsers() throws Exception {
+        given(dataVersionService.currentVersion()).willReturn(1L);
+
+        ExportJobRequestDto request = new ExportJobRequestDto(EExportFormat.CSV, null, null, null, null, null, null);
+        String jobId = ((ExportJobResponseDto) exportJobService.createJob(OWNER, request).getBody().getResponse()).getJobId();
+        verify(notificationGateway, timeout(5000)).sendAlertToUser(eq(OWNER), eq("EXPORT_READY"), anyMap());
+
+        assertThatThrownBy(() -> exportJobService.getJob("mallory@example.com", jobId)).isInstanceOf(ExportJobNotFoundException.class);
+        assertThatThrownBy(() -> exportJobService.download("mallory@example.com", jobId, null)).isInstanceOf(ExportJobNotFoundException.class);
+        assertThat(exportJobService.getJob(OWNER, jobId).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        // The same filters from another user start that user's own job
+        String otherJobId = ((ExportJobResponseDto) exportJobService.createJob("mallory@example.com", request).getBody().getResponse()).getJobId();
+        assertThat(otherJobId).isNotEqualTo(jobId);
+    }
+
+    @Test
+    void byteRange_ShouldHandleSuffixOpenAndMalformedRanges() {
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=-3", 10)).isEqualTo(new ExportJobServiceImpl.ByteRange(7, 9));
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=4-", 10)).isEqualTo(new ExportJobServiceImpl.ByteRange(4, 9));
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=4-100", 10)).isEqualTo(new ExportJobServiceImpl.ByteRange(4, 9));
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=0-1,4-5", 10)).isNull();
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=x-1", 10)).isNull();
+        assertThat(ExportJobServiceImpl.ByteRange.parse("bytes=5-2", 10)).isSameAs(ExportJobServiceImpl.ByteRange.UNSATISFIABLE);
+    }
+}
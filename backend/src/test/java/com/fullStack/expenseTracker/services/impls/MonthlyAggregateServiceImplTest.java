@@ -0,0 +1,166 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fullStack.expenseTracker.dto.reponses.AggregateDriftReportDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.BudgetEvaluationRequestedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregateChangedEvent;
+import com.fullStack.expenseTracker.events.MonthlyAggregatesResetEvent;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.UserMonthlyAggregateRepository;
+import com.fullStack.expenseTracker.services.DataVersionService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyAggregateServiceImplTest {
+
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+    private static final TransactionType INCOME = new TransactionType(2, ETransactionType.TYPE_INCOME);
+
+    @Mock private UserMonthlyAggregateRepository aggregateRepository;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private MonthlyAggregateServiceImpl monthlyAggregateService;
+
+    @Test
+    void recordTransaction_ShouldAddAmountAndCountWithTheGivenSign() {
+        User user = User.builder().id(7L).build();
+        Transaction expense = new Transaction(user, new Category(3, "Food", EXPENSE, true), "lunch", 12.5,
+                LocalDate.of(2024, 3, 15));
+        Transaction income = new Transaction(user, new Category(4, "Salary", INCOME, true), "pay", 1000,
+                LocalDate.of(2024, 3, 28));
+
+        monthlyAggregateService.recordTransaction(expense, 1);
+        monthlyAggregateService.recordTransaction(expense, -1);
+        monthlyAggregateService.recordTransaction(income, 1);
+
+        verify(aggregateRepository).addToBucket(7L, 2024, 3, 1, 3, 12.5, 1);
+        verify(aggregateRepository).addToBucket(7L, 2024, 3, 1, 3, -12.5, -1);
+        verify(aggregateRepository).addToBucket(7L, 2024, 3, 2, 4, 1000, 1);
+        verify(applicationEventPublisher).publishEvent(new MonthlyAggregateChangedEvent(7L, 1, 3, 2024, -12.5));
+        verify(applicationEventPublisher).publishEvent(new MonthlyAggregateChangedEvent(7L, 2, 3, 2024, 1000));
+    }
+
+    @Test
+    void recordDelta_ShouldPassCountsThroughUnchanged() {
+        // A batch update moves several rows between buckets with one delta each
+        monthlyAggregateService.recordDelta(7L, 1, 3, LocalDate.of(2024, 1, 31), -40.0, -4);
+        monthlyAggregateService.recordDelta(7L, 1, 3, LocalDate.of(2024, 2, 1), 40.0, 4);
+        monthlyAggregateService.recordDelta(7L, 1, 3, LocalDate.of(2024, 2, 1), 5.0, 0);
+
+        verify(aggregateRepository).addToBucket(7L, 2024, 1, 1, 3, -40.0, -4);
+        verify(aggregateRepository).addToBucket(7L, 2024, 2, 1, 3, 40.0, 4);
+        verify(aggregateRepository).addToBucket(7L, 2024, 2, 1, 3, 5.0, 0);
+        verify(dataVersionService, times(3)).markChanged(7L);
+    }
+
+    @Test
+    void recordTransaction_ShouldSkipUndatedAndIncompleteTransactions() {
+        User user = User.builder().id(7L).build();
+        Category food = new Category(3, "Food", EXPENSE, true);
+
+        monthlyAggregateService.recordTransaction(new Transaction(user, food, "undated", 10, null), 1);
+        monthlyAggregateService.recordTransaction(new Transaction(null, food, "orphan", 10, LocalDate.of(2024, 3, 1)), 1);
+        monthlyAggregateService.recordTransaction(new Transaction(user, null, "uncategorised", 10, LocalDate.of(2024, 3, 1)), 1);
+        monthlyAggregateService.recordDelta(7L, 1, 3, null, 10, 1);
+
+        verify(aggregateRepository, never()).addToBucket(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyDouble(), anyLong());
+        verifyNoInteractions(dataVersionService, applicationEventPublisher);
+    }
+
+    @Test
+    void recordDeltas_ShouldApplyEachBucketOnceAndCheckEachExpenseMonthOnce() {
+        AggregateDeltas deltas = new AggregateDeltas();
+        deltas.add(7L, 1, 3, true, LocalDate.of(2024, 3, 2), 12.0, 1);
+        deltas.add(7L, 1, 3, true, LocalDate.of(2024, 3, 30), 20.0, 1);
+        deltas.add(7L, 1, 3, true, LocalDate.of(2024, 3, 2), -12.0, -1);
+        deltas.add(7L, 2, 4, false, LocalDate.of(2024, 4, 1), 1000.0, 1);
+        deltas.add(7L, 1, 3, true, null, 5.0, 1);
+
+        monthlyAggregateService.recordDeltas(deltas);
+
+        verify(aggregateRepository).addToBucket(7L, 2024, 3, 1, 3, 20.0, 1);
+        verify(aggregateRepository).addToBucket(7L, 2024, 4, 2, 4, 1000.0, 1);
+        verify(aggregateRepository, times(2)).addToBucket(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyDouble(), anyLong());
+        verify(applicationEventPublisher).publishEvent(new BudgetEvaluationRequestedEvent(7L, 3, 2024));
+        verify(applicationEventPublisher, times(1)).publishEvent(any(BudgetEvaluationRequestedEvent.class));
+        assertThat(deltas.expenseMonths()).containsExactly(new AggregateDeltas.UserMonth(7L, YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    void verify_ShouldReportAmountAndCountDriftAndMissingBuckets() {
+        given(aggregateRepository.computeFromTransactions()).willReturn(List.<Object[]>of(
+                new Object[]{7L, 2024, 3, 1, 3, 100.0, 4L},
+                new Object[]{7L, 2024, 4, 1, 3, 50.0, 2L},
+                new Object[]{7L, 2024, 5, 1, 3, 20.0, 1L},
+                new Object[]{8L, 2024, 3, 2, 4, 900.0, 1L}));
+        given(aggregateRepository.findAllAsRows()).willReturn(List.<Object[]>of(
+                // Rounding noise below the tolerance is not drift
+                new Object[]{7L, 2024, 3, 1, 3, 100.004, 4L},
+                new Object[]{7L, 2024, 4, 1, 3, 50.0, 3L},
+                new Object[]{7L, 2024, 5, 1, 3, 25.0, 1L},
+                // A bucket whose transactions are all gone
+                new Object[]{9L, 2023, 12, 1, 3, 10.0, 1L}));
+
+        AggregateDriftReportDto report = monthlyAggregateService.verify();
+
+        assertThat(report.getCheckedBuckets()).isEqualTo(5);
+        assertThat(report.getDriftedBuckets()).isEqualTo(4);
+        assertThat(report.isRebuilt()).isFalse();
+        assertThat(report.getSamples()).containsExactlyInAnyOrder(
+                "user=7 2024-4 type=1 category=3 stored=50.0/3 actual=50.0/2",
+                "user=7 2024-5 type=1 category=3 stored=25.0/1 actual=20.0/1",
+                "user=9 2023-12 type=1 category=3 stored=10.0/1 actual=0.0/0",
+                "user=8 2024-3 type=2 category=4 missing, actual=900.0/1");
+        verify(aggregateRepository, never()).deleteAllRows();
+        verifyNoInteractions(dataVersionService, applicationEventPublisher);
+    }
+
+    @Test
+    void rebuild_ShouldReportTheDriftFoundBeforeReplacingEveryBucket() {
+        given(aggregateRepository.computeFromTransactions()).willReturn(List.<Object[]>of(
+                new Object[]{7L, 2024, 3, 1, 3, 100.0, 4L}));
+        given(aggregateRepository.findAllAsRows()).willReturn(List.<Object[]>of(
+                new Object[]{7L, 2024, 3, 1, 3, 90.0, 3L}));
+
+        AggregateDriftReportDto report = monthlyAggregateService.rebuild();
+
+        assertThat(report.getCheckedBuckets()).isEqualTo(1);
+        assertThat(report.getDriftedBuckets()).isEqualTo(1);
+        assertThat(report.isRebuilt()).isTrue();
+        InOrder order = inOrder(aggregateRepository, dataVersionService, applicationEventPublisher);
+        order.verify(aggregateRepository).findAllAsRows();
+        order.verify(aggregateRepository).deleteAllRows();
+        order.verify(aggregateRepository).insertFromTransactions();
+        order.verify(dataVersionService).markAllChanged();
+        order.verify(applicationEventPublisher).publishEvent(any(MonthlyAggregatesResetEvent.class));
+    }
+}
@@ -0,0 +1,155 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fullStack.expenseTracker.dto.reponses.RecurringPostingStatsDto;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.SavedTransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService.PlanSchedule;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 20);
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+
+    @Mock private SavedTransactionRepository savedTransactionRepository;
+    @Mock private SavedTransactionJdbcRepository savedTransactionJdbcRepository;
+    @Mock private TransactionJdbcRepository transactionJdbcRepository;
+    @Mock private CategoryService categoryService;
+    @Mock private MonthlyAggregateService monthlyAggregateService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private RecurrenceIndexService recurrenceIndexService;
+
+    @InjectMocks private RecurringTransactionServiceImpl recurringTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recurringTransactionService, "batchSize", 10);
+        ReflectionTestUtils.setField(recurringTransactionService, "maxCatchUp", 400);
+        ReflectionTestUtils.setField(recurringTransactionService, "maxBatchesPerRun", 5);
+    }
+
+    @Test
+    void run_ShouldPostEveryMissedOccurrenceAndAdvancePlans() throws Exception {
+        given(categoryService.getCategoryById(1)).willReturn(new Category(1, "Rent", EXPENSE, true));
+        List<SavedTransaction> claimed = List.of(
+                plan(1L, ETransactionFrequency.MONTHLY, LocalDate.of(2024, 1, 15)),
+                plan(2L, ETransactionFrequency.ONE_TIME, TODAY));
+        given(savedTransactionRepository.claimDue(TODAY, 10)).willReturn(claimed);
+        given(savedTransactionRepository.findDueBacklog(TODAY)).willReturn(List.<Object[]>of(new Object[]{0L, null}));
+
+        RecurringPostingStatsDto stats = recurringTransactionService.run(TODAY);
+
+        ArgumentCaptor<List<Object[]>> inserts = rowsCaptor();
+        verify(transactionJdbcRepository).insertAll(inserts.capture());
+        assertThat(inserts.getValue()).extracting(row -> row[4]).containsExactly(
+                LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15), LocalDate.of(2024, 3, 15), TODAY);
+
+        ArgumentCaptor<List<Object[]>> advances = rowsCaptor();
+        verify(savedTransactionJdbcRepository).advanceAll(advances.capture());
+        assertThat(advances.getValue().get(0)).containsExactly(LocalDate.of(2024, 4, 15), 1L);
+        assertThat(advances.getValue().get(1)).containsExactly(null, 2L);
+        verify(recurrenceIndexService).reindex(List.of(
+                new PlanSchedule(claimed.get(0), LocalDate.of(2024, 4, 15)),
+                new PlanSchedule(claimed.get(1), null)));
+
+        ArgumentCaptor<AggregateDeltas> deltas = ArgumentCaptor.forClass(AggregateDeltas.class);
+        verify(monthlyAggregateService).recordDeltas(deltas.capture());
+        assertThat(deltas.getValue().buckets()).contains(new AggregateDeltas.Bucket(7L, 1, 1, YearMonth.of(2024, 3), 200.0, 2));
+        assertThat(deltas.getValue().expenseMonths()).hasSize(3);
+        // A short batch means the backlog is drained
+        verify(savedTransactionRepository, times(1)).claimDue(TODAY, 10);
+        assertThat(stats.getLastRunPlans()).isEqualTo(2);
+        assertThat(stats.getLastRunTransactions()).isEqualTo(4);
+    }
+
+    @Test
+    void run_ShouldSuspendUnpostablePlansSoTheyStopBlockingTheQueue() throws Exception {
+        ReflectionTestUtils.setField(recurringTransactionService, "batchSize", 1);
+        given(categoryService.getCategoryById(1)).willThrow(new CategoryNotFoundException("gone"));
+        given(categoryService.getCategoryById(2)).willReturn(new Category(2, "Rent", EXPENSE, true));
+        SavedTransaction postable = plan(2L, ETransactionFrequency.ONE_TIME, TODAY);
+        postable.setCategoryId(2);
+        given(savedTransactionRepository.claimDue(TODAY, 1))
+                .willReturn(List.of(plan(1L, ETransactionFrequency.DAILY, TODAY)))
+                .willReturn(List.of(postable))
+                .willReturn(List.of());
+        given(savedTransactionRepository.findDueBacklog(TODAY)).willReturn(List.<Object[]>of(new Object[]{0L, null}));
+
+        RecurringPostingStatsDto stats = recurringTransactionService.run(TODAY);
+
+        verify(savedTransactionJdbcRepository).disableAutoPostAll(List.of(1L));
+        verify(transactionJdbcRepository, times(1)).insertAll(anyList());
+        verify(savedTransactionRepository, times(3)).claimDue(TODAY, 1);
+        assertThat(stats.getLastRunSuspendedPlans()).isEqualTo(1);
+        assertThat(stats.getLastRunPlans()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_ShouldExportBacklogAndLagOfTheLastRun() {
+        given(savedTransactionRepository.claimDue(TODAY, 10)).willReturn(List.of());
+        given(savedTransactionRepository.findDueBacklog(TODAY))
+                .willReturn(List.<Object[]>of(new Object[]{3L, Date.valueOf("2024-03-18")}));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        recurringTransactionService.bindTo(registry);
+
+        recurringTransactionService.run(TODAY);
+
+        assertThat(registry.get("saved.transactions.backlog").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("saved.transactions.lag").timeGauge().value(TimeUnit.DAYS)).isEqualTo(2.0);
+    }
+
+    private static SavedTransaction plan(long id, ETransactionFrequency frequency, LocalDate upcomingDate) {
+        SavedTransaction plan = new SavedTransaction();
+        plan.setPlanId(id);
+        plan.setUserId(7L);
+        plan.setTransactionTypeId(1);
+        plan.setCategoryId(1);
+        plan.setAmount(100);
+        plan.setDescription("Rent");
+        plan.setFrequency(frequency);
+        plan.setUpcomingDate(upcomingDate);
+        plan.setAutoPost(true);
+        return plan;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<Object[]>> rowsCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+}
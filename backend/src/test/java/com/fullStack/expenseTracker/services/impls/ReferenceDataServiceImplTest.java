@@ -0,0 +1,67 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataServiceImplTest {
+
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+    private static final TransactionType INCOME = new TransactionType(2, ETransactionType.TYPE_INCOME);
+
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private TransactionTypeRepository transactionTypeRepository;
+
+    @InjectMocks private ReferenceDataServiceImpl referenceDataService;
+
+    @Test
+    void lookups_ShouldBeServedFromOneLoad() {
+        given(transactionTypeRepository.findAll()).willReturn(List.of(EXPENSE, INCOME));
+        given(categoryRepository.findAll()).willReturn(List.of(
+                new Category(1, "Food", EXPENSE, true),
+                new Category(5, "Salary", INCOME, true)));
+
+        assertThat(referenceDataService.findCategory(5).getCategoryName()).isEqualTo("Salary");
+        assertThat(referenceDataService.findCategory(5).getTransactionType().getTransactionTypeId()).isEqualTo(2);
+        assertThat(referenceDataService.findCategory(3)).isNull();
+        assertThat(referenceDataService.findCategory(99)).isNull();
+        assertThat(referenceDataService.findTransactionType(1).getTransactionTypeName()).isEqualTo(ETransactionType.TYPE_EXPENSE);
+        assertThat(referenceDataService.getCategories()).extracting(Category::getCategoryId).containsExactly(1, 5);
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(transactionTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_ShouldSwapInNewSnapshotWithoutLeakingCallerChanges() {
+        given(transactionTypeRepository.findAll()).willReturn(List.of(EXPENSE, INCOME));
+        given(categoryRepository.findAll()).willReturn(
+                List.of(new Category(1, "Food", EXPENSE, true)),
+                List.of(new Category(1, "Groceries", EXPENSE, false)));
+
+        referenceDataService.findCategory(1).setCategoryName("Mutated by caller");
+        assertThat(referenceDataService.findCategory(1).getCategoryName()).isEqualTo("Food");
+
+        referenceDataService.refresh();
+
+        Category refreshed = referenceDataService.findCategory(1);
+        assertThat(refreshed.getCategoryName()).isEqualTo("Groceries");
+        assertThat(refreshed.isEnabled()).isFalse();
+    }
+}
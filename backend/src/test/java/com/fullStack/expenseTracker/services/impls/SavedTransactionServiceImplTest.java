@@ -0,0 +1,69 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.RecurrenceIndexService;
+
+@ExtendWith(MockitoExtension.class)
+class SavedTransactionServiceImplTest {
+
+    private static final Category RENT = new Category(3, "Rent", new TransactionType(1, ETransactionType.TYPE_EXPENSE), true);
+
+    @Mock private UserRepository userRepository;
+    @Mock private SavedTransactionRepository savedTransactionRepository;
+    @Mock private CategoryService categoryService;
+    @Mock private RecurrenceIndexService recurrenceIndexService;
+
+    @InjectMocks
+    private SavedTransactionServiceImpl savedTransactionService;
+
+    @Test
+    void createSavedTransaction_ShouldReportWhatIsWrongWithTheRule() throws Exception {
+        given(userRepository.existsById(7L)).willReturn(true);
+        given(categoryService.getCategoryById(3)).willReturn(RENT);
+
+        assertThatThrownBy(() -> savedTransactionService.createSavedTransaction(request("FREQ=HOURLY")))
+                .isInstanceOf(UserServiceLogicException.class)
+                .hasMessage("Unsupported FREQ 'HOURLY'");
+        verify(savedTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    void editSavedTransaction_ShouldReportWhatIsWrongWithTheRule() throws Exception {
+        given(savedTransactionRepository.findByIdForUpdate(5L)).willReturn(Optional.of(new SavedTransaction()));
+        given(categoryService.getCategoryById(3)).willReturn(RENT);
+
+        assertThatThrownBy(() -> savedTransactionService.editSavedTransaction(5L, request(" ")))
+                .isInstanceOf(UserServiceLogicException.class)
+                .hasMessage("A custom frequency needs a recurrence rule");
+        verify(savedTransactionRepository, never()).save(any());
+    }
+
+    private static SavedTransactionRequestDto request(String rule) {
+        return new SavedTransactionRequestDto(7L, 3, 1200, "rent", ETransactionFrequency.CUSTOM, rule,
+                LocalDate.of(2024, 3, 1), false);
+    }
+}
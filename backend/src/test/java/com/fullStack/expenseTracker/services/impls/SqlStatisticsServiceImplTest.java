@@ -0,0 +1,91 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.SlowQueryDto;
+import com.fullStack.expenseTracker.dto.reponses.SqlEndpointStatsDto;
+import com.fullStack.expenseTracker.dto.reponses.SqlStatisticsDto;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class SqlStatisticsServiceImplTest {
+
+    private static final String USER_LOOKUP = "select * from users where id=?";
+
+    private SqlStatisticsServiceImpl sqlStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatisticsService = new SqlStatisticsServiceImpl();
+        ReflectionTestUtils.setField(sqlStatisticsService, "statementBudget", 3);
+        ReflectionTestUtils.setField(sqlStatisticsService, "slowQueryMs", 100L);
+        ReflectionTestUtils.setField(sqlStatisticsService, "slowQueryHistory", 2);
+    }
+
+    @Test
+    void countsStatementsPerEndpointAndNamesTheRepeatedOne() {
+        sqlStatisticsService.beginRequest("GET", "/mypockit/user/getAll");
+        execute("select * from users limit ?", 2);
+        for (int i = 0; i < 5; i++) {
+            execute(USER_LOOKUP, 1);
+        }
+        sqlStatisticsService.endRequest("UserController.getAllUsers");
+
+        sqlStatisticsService.beginRequest("GET", "/mypockit/user/getAll");
+        execute("select * from users limit ?", 2);
+        sqlStatisticsService.endRequest("UserController.getAllUsers");
+
+        SqlEndpointStatsDto stats = statistics().getEndpoints().get(0);
+        assertEquals("UserController.getAllUsers", stats.getEndpoint());
+        assertEquals(2, stats.getRequests());
+        assertEquals(7, stats.getStatements());
+        assertEquals(6, stats.getMaxStatements());
+        assertEquals(1, stats.getOverBudgetRequests());
+        assertEquals(USER_LOOKUP, stats.getMostRepeatedStatement());
+        assertEquals(5, stats.getMostRepeatedCount());
+    }
+
+    @Test
+    void statementsOutsideARequestOrWithoutHandlerAreNotAggregated() {
+        execute(USER_LOOKUP, 1);
+        sqlStatisticsService.beginRequest("GET", "/missing");
+        execute(USER_LOOKUP, 1);
+        sqlStatisticsService.endRequest(null);
+
+        assertTrue(statistics().getEndpoints().isEmpty());
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentSlowQueries() {
+        sqlStatisticsService.beginRequest("GET", "/mypockit/report/analytics");
+        execute("select 1", 150);
+        execute("select 2", 150);
+        execute("select 3", 99);
+        execute("select 4", 400);
+        sqlStatisticsService.endRequest("ReportController.getAnalytics");
+
+        List<SlowQueryDto> slowQueries = statistics().getSlowQueries();
+        assertEquals(2, slowQueries.size());
+        assertEquals("select 4", slowQueries.get(0).getSql());
+        assertEquals("select 2", slowQueries.get(1).getSql());
+        assertEquals("GET /mypockit/report/analytics", slowQueries.get(0).getEndpoint());
+    }
+
+    private void execute(String sql, long elapsedMs) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMs);
+        sqlStatisticsService.afterQuery(executionInfo, List.of(new QueryInfo(sql)));
+    }
+
+    private SqlStatisticsDto statistics() {
+        return (SqlStatisticsDto) sqlStatisticsService.getStatistics().getBody().getResponse();
+    }
+}
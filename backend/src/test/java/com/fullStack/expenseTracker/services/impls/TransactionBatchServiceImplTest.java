@@ -0,0 +1,135 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionBatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionBatchResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchOperationDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionBatchAction;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchServiceImplTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private TransactionJdbcRepository transactionJdbcRepository;
+    @Mock private UserService userService;
+    @Mock private CategoryService categoryService;
+    @Mock private MonthlyAggregateService monthlyAggregateService;
+    @Spy private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks private TransactionBatchServiceImpl transactionBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionBatchService, "maxOperations", 10);
+    }
+
+    @Test
+    void processBatch_ShouldWriteEachActionAsOneBatchAndReportFailuresPerItem() throws Exception {
+        User user = new User();
+        user.setId(7L);
+        given(userService.findByEmail(EMAIL)).willReturn(user);
+        given(categoryService.getCategoryById(1)).willReturn(new Category(1, "Food", EXPENSE, true));
+        given(transactionRepository.findWriteStateByIdIn(anyCollection())).willReturn(List.<Object[]>of(
+                new Object[]{5L, 7L, 1, 1, "TYPE_EXPENSE", Date.valueOf("2024-03-10"), 20.0}));
+        given(transactionJdbcRepository.insertAllReturningKeys(anyList())).willReturn(new long[]{101L, 102L});
+
+        TransactionBatchResponseDto response = process(
+                create(new TransactionRequestDto(EMAIL, 1, "Lunch", 12.0, LocalDate.of(2024, 3, 2))),
+                create(new TransactionRequestDto(EMAIL, 1, "Dinner", 30.0, LocalDate.of(2024, 3, 5))),
+                create(new TransactionRequestDto(EMAIL, 1, null, 5.0, LocalDate.of(2024, 3, 6))),
+                new TransactionBatchOperationDto(ETransactionBatchAction.UPDATE, 5L,
+                        new TransactionRequestDto(EMAIL, 1, "Groceries", 25.0, LocalDate.of(2024, 3, 10))),
+                new TransactionBatchOperationDto(ETransactionBatchAction.DELETE, 5L, null),
+                new TransactionBatchOperationDto(ETransactionBatchAction.UPDATE, 5L,
+                        new TransactionRequestDto(EMAIL, 1, "Again", 1.0, LocalDate.of(2024, 3, 10))),
+                new TransactionBatchOperationDto(ETransactionBatchAction.DELETE, 99L, null));
+
+        assertThat(response.getSucceeded()).isEqualTo(4);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(TransactionBatchItemResultDto::getStatus).containsExactly(
+                ApiResponseStatus.SUCCESS, ApiResponseStatus.SUCCESS, ApiResponseStatus.FAILED,
+                ApiResponseStatus.SUCCESS, ApiResponseStatus.SUCCESS, ApiResponseStatus.FAILED, ApiResponseStatus.FAILED);
+        assertThat(response.getResults()).extracting(TransactionBatchItemResultDto::getTransactionId)
+                .startsWith(101L, 102L);
+        assertThat(response.getResults().get(2).getMessage()).isEqualTo("Description is required!");
+
+        ArgumentCaptor<List<Object[]>> updates = rowsCaptor();
+        verify(transactionJdbcRepository).updateAll(updates.capture());
+        assertThat(updates.getValue()).hasSize(1);
+        assertThat(updates.getValue().get(0)).containsExactly(7L, 1, "Groceries", 25.0, LocalDate.of(2024, 3, 10), 5L);
+        verify(transactionJdbcRepository).deleteAllById(List.of(5L));
+        verify(userService, times(1)).findByEmail(EMAIL);
+
+        // +12 +30 for the creates, -20 +25 for the update, -25 for the delete
+        ArgumentCaptor<AggregateDeltas> deltas = ArgumentCaptor.forClass(AggregateDeltas.class);
+        verify(monthlyAggregateService).recordDeltas(deltas.capture());
+        assertThat(deltas.getValue().buckets()).containsExactly(new AggregateDeltas.Bucket(7L, 1, 1, YearMonth.of(2024, 3), 22.0, 1L));
+        assertThat(deltas.getValue().expenseMonths()).containsExactly(new AggregateDeltas.UserMonth(7L, YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    void processBatch_ShouldRejectOversizedBatch() {
+        TransactionBatchOperationDto delete = new TransactionBatchOperationDto(ETransactionBatchAction.DELETE, 1L, null);
+        TransactionBatchRequestDto request = new TransactionBatchRequestDto(Collections.nCopies(11, delete));
+
+        assertThrows(TransactionServiceLogicException.class,
+                () -> transactionBatchService.processBatch(request));
+    }
+
+    private TransactionBatchResponseDto process(TransactionBatchOperationDto... operations) throws Exception {
+        return (TransactionBatchResponseDto) transactionBatchService
+                .processBatch(new TransactionBatchRequestDto(List.of(operations))).getBody().getResponse();
+    }
+
+    private static TransactionBatchOperationDto create(TransactionRequestDto dto) {
+        return new TransactionBatchOperationDto(ETransactionBatchAction.CREATE, null, dto);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<Object[]>> rowsCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.ImportRowErrorDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionImportResultDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.services.MonthlyAggregateService;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.util.AggregateDeltas;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceImplTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+    private static final TransactionType INCOME = new TransactionType(2, ETransactionType.TYPE_INCOME);
+
+    @Mock private UserService userService;
+    @Mock private ReferenceDataService referenceDataService;
+    @Mock private MonthlyAggregateService monthlyAggregateService;
+    @Mock private TransactionJdbcRepository transactionJdbcRepository;
+
+    @InjectMocks private TransactionImportServiceImpl transactionImportService;
+
+    // insertAll receives the live buffer, which is cleared after every flush
+    private final List<Object[]> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(transactionImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(transactionImportService, "maxReportedErrors", 10);
+
+        User user = new User();
+        user.setId(7L);
+        given(userService.findByEmail(EMAIL)).willReturn(user);
+        given(referenceDataService.getCategories()).willReturn(List.of(
+                new Category(1, "Food", EXPENSE, true),
+                new Category(10, "Other", EXPENSE, true),
+                new Category(11, "Salary", INCOME, true),
+                new Category(17, "Other", INCOME, true)));
+        doAnswer(inv -> inserted.addAll(inv.<List<Object[]>>getArgument(0)))
+                .when(transactionJdbcRepository).insertAll(any());
+    }
+
+    @Test
+    void importTransactions_ShouldBatchValidCsvRowsAndReportRejectedOnes() throws Exception {
+        String csv = "transactionId,date,category,transactionType,description,amount\r\n" +
+                ",2024-03-02,Food,TYPE_EXPENSE,\"Lunch, with \"\"team\"\"\",12.50\r\n" +
+                ",2024-03-05,Food,,Dinner,30\r\n" +
+                ",03/07/2024,Food,,Bad date,5\r\n" +
+                ",2024-03-09,Travel,,Unknown,5\r\n" +
+                ",2024-04-01,Salary,,April pay,2000\r\n";
+
+        TransactionImportResultDto result = importFile("history.csv", csv);
+
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportRowErrorDto::getRow).containsExactly(3L, 4L);
+        assertThat(inserted).hasSize(3);
+        assertThat(inserted.get(0)).containsExactly(7L, 1, "Lunch, with \"team\"", 12.5, LocalDate.of(2024, 3, 2));
+        verify(transactionJdbcRepository, times(2)).insertAll(any());
+
+        AggregateDeltas deltas = recordedDeltas();
+        assertThat(deltas.buckets()).containsExactlyInAnyOrder(
+                new AggregateDeltas.Bucket(7L, 1, 1, YearMonth.of(2024, 3), 42.5, 2),
+                new AggregateDeltas.Bucket(7L, 2, 11, YearMonth.of(2024, 4), 2000.0, 1));
+        // Only the expense month is checked against the budget
+        assertThat(deltas.expenseMonths()).containsExactly(new AggregateDeltas.UserMonth(7L, YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    void importTransactions_ShouldTypeOfxRowsBySign() throws Exception {
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n" +
+                "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240315120000[0:GMT]<TRNAMT>-45.10<NAME>GROCERY &amp; CO</STMTTRN>\n" +
+                "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240301<TRNAMT>1500.00<MEMO>Payroll</STMTTRN>\n" +
+                "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+
+        TransactionImportResultDto result = importFile("statement.ofx", ofx);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(inserted.get(0)).containsExactly(7L, 10, "GROCERY & CO", 45.1, LocalDate.of(2024, 3, 15));
+        assertThat(inserted.get(1)).containsExactly(7L, 17, "Payroll", 1500.0, LocalDate.of(2024, 3, 1));
+        assertThat(recordedDeltas().buckets()).extracting(AggregateDeltas.Bucket::month, AggregateDeltas.Bucket::count)
+                .containsExactly(tuple(YearMonth.of(2024, 3), 1L), tuple(YearMonth.of(2024, 3), 1L));
+    }
+
+    private AggregateDeltas recordedDeltas() {
+        ArgumentCaptor<AggregateDeltas> deltas = ArgumentCaptor.forClass(AggregateDeltas.class);
+        verify(monthlyAggregateService).recordDeltas(deltas.capture());
+        return deltas.getValue();
+    }
+
+    private TransactionImportResultDto importFile(String name, String content) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+        return (TransactionImportResultDto) transactionImportService.importTransactions(EMAIL, file, null).getBody().getResponse();
+    }
+}
@@ -0,0 +1,104 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.ReferenceDataService;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchServiceImplTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final TransactionType EXPENSE = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+    private static final TransactionType INCOME = new TransactionType(2, ETransactionType.TYPE_INCOME);
+
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private ReferenceDataService referenceDataService;
+
+    @InjectMocks private TransactionSearchServiceImpl transactionSearchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionSearchService, "minLength", 2);
+    }
+
+    @Test
+    void isSearchable_ShouldRequireKeyOfIndexedLength() {
+        assertThat(transactionSearchService.isSearchable(null)).isFalse();
+        assertThat(transactionSearchService.isSearchable(" a\" ")).isFalse();
+        assertThat(transactionSearchService.isSearchable("ab")).isTrue();
+    }
+
+    @Test
+    void searchByUser_ShouldResolveCategoriesInMemoryAndKeepRankedOrder() {
+        given(referenceDataService.getCategories()).willReturn(List.of(
+                new Category(1, "Food", EXPENSE, true),
+                new Category(2, "Fast food", EXPENSE, true),
+                new Category(3, "Salary", INCOME, true)));
+        given(transactionRepository.searchIdsByUser(EMAIL, "\"food\"", List.of(1, 2), List.of(1, 2), 20, 0L))
+                .willReturn(List.of(30L, 10L, 20L));
+        // The batch fetch returns rows in storage order; the page must follow the ranking
+        given(transactionRepository.findAllWithDetailsByIdIn(anyCollection()))
+                .willReturn(List.of(transaction(10L), transaction(20L), transaction(30L)));
+
+        Page<Transaction> page = transactionSearchService.searchByUser(EMAIL, " Food ", "expense", PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(Transaction::getTransactionId).containsExactly(30L, 10L, 20L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void searchByUser_ShouldPageInRequestedOrderWhenSorted() {
+        given(referenceDataService.getCategories()).willReturn(List.of(new Category(1, "Food", EXPENSE, true)));
+        PageRequest byAmount = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "amount"));
+        Page<Transaction> sorted = new PageImpl<>(List.of(transaction(20L), transaction(10L)), byAmount, 2);
+        given(transactionRepository.searchByUserSorted(EMAIL, "\"food\"", List.of(1), List.of(1), byAmount))
+                .willReturn(sorted);
+
+        Page<Transaction> page = transactionSearchService.searchByUser(EMAIL, "food", "expense", byAmount);
+
+        assertThat(page).isSameAs(sorted);
+        verify(transactionRepository, never()).searchIdsByUser(any(), any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void searchByUser_ShouldReturnEmptyPageWhenTypeFilterMatchesNothing() {
+        given(referenceDataService.getCategories()).willReturn(List.of(new Category(1, "Food", EXPENSE, true)));
+
+        Page<Transaction> page = transactionSearchService.searchByUser(EMAIL, "food", "transfer", PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private static Transaction transaction(long id) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(id);
+        return transaction;
+    }
+}
@@ -0,0 +1,114 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.UserResponseDto;
+import com.fullStack.expenseTracker.factories.RoleFactory;
+import com.fullStack.expenseTracker.security.UserDetailsServiceImpl;
+import com.fullStack.expenseTracker.security.jwt.JwtAuthenticationCache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the admin user listing against N+1 queries: the number of JDBC statements needed for a page
+ * must not depend on how many users are on it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.user.profile.upload.dir=target/uploads"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserServiceImpl.class, MonthlyAggregateServiceImpl.class, DataVersionServiceImpl.class,
+        RoleFactory.class, RoleServiceImpl.class, UserDetailsServiceImpl.class, JwtAuthenticationCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserServiceStatementCountTest {
+
+    private static final int USERS = 60;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO roles (id, name) VALUES (1, 'ROLE_USER'), (2, 'ROLE_ADMIN')");
+        jdbcTemplate.update("INSERT INTO transaction_type (transaction_type_id, transaction_type_name) VALUES (1, 'TYPE_EXPENSE'), (2, 'TYPE_INCOME')");
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name, transaction_type_id, enabled) VALUES (1, 'Food', 1, true), (2, 'Salary', 2, true)");
+        LocalDate today = LocalDate.now();
+        for (int u = 1; u <= USERS; u++) {
+            jdbcTemplate.update("INSERT INTO users (id, username, email, password, enabled) VALUES (?, ?, ?, 'x', true)",
+                    u, "user" + u, "user" + u + "@example.com");
+            jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, 1)", u);
+            jdbcTemplate.update("INSERT INTO transaction (user_id, category_id, description, amount, date) VALUES " +
+                    "(?, 1, 'lunch', 12.5, ?), (?, 2, 'salary', 1000, ?)", u, today, u, today);
+        }
+        jdbcTemplate.update("DELETE FROM user_monthly_aggregate");
+        jdbcTemplate.update("INSERT INTO user_monthly_aggregate " +
+                "(user_id, year, month, transaction_type_id, category_id, total_amount, transaction_count) " +
+                "SELECT t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id, SUM(t.amount), COUNT(*) " +
+                "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+                "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id");
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() throws Exception {
+        long smallPage = statementsFor(5);
+        long largePage = statementsFor(50);
+
+        assertEquals(smallPage, largePage, "a 50-user page issued more statements than a 5-user page");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pageCarriesCurrentMonthTotals() throws Exception {
+        PageResponseDto<List<UserResponseDto>> page = (PageResponseDto<List<UserResponseDto>>)
+                userService.getAllUsers(0, 10, "").getBody().getResponse();
+
+        List<UserResponseDto> users = page.getData();
+        assertEquals(10, users.size());
+        for (UserResponseDto user : users) {
+            assertEquals(12.5, user.getExpense());
+            assertEquals(1000.0, user.getIncome());
+            assertEquals(2, user.getNoOfTransactions());
+        }
+    }
+
+    private long statementsFor(int pageSize) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        userService.getAllUsers(0, pageSize, "");
+        return statistics.getPrepareStatementCount();
+    }
+}
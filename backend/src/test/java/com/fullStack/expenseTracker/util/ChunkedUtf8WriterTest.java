@@ -0,0 +1,41 @@
+package com.fullStack.expenseTracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class ChunkedUtf8WriterTest {
+
+    @Test
+    void write_ShouldEncodeLongsLikeLongToString() throws Exception {
+        long[] values = {0, 7, -7, 10, 99, 100, 1_000_000_007L, 999_999_999_999_999_999L,
+                Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Small chunks so several values straddle a flush
+        ChunkedUtf8Writer writer = new ChunkedUtf8Writer(out, 64);
+        StringBuilder expected = new StringBuilder();
+        for (int round = 0; round < 5; round++) {
+            for (long value : values) {
+                writer.write(value).write(',');
+                expected.append(value).append(',');
+            }
+        }
+        writer.flush();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void write_ShouldEncodeMultiByteAndSurrogateCharacters() throws Exception {
+        String text = "café ₹ 😀";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChunkedUtf8Writer writer = new ChunkedUtf8Writer(out, 64);
+        writer.write(text);
+        writer.flush();
+
+        assertThat(out.toByteArray()).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullStack.expenseTracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void fixedFrequencies_ShouldStepByTheirPeriod() {
+        LocalDate jan31 = LocalDate.of(2024, 1, 31);
+
+        assertThat(RecurrenceRule.of(ETransactionFrequency.BIWEEKLY, null).next(jan31)).isEqualTo(LocalDate.of(2024, 2, 14));
+        assertThat(RecurrenceRule.of(ETransactionFrequency.QUARTERLY, null).next(jan31)).isEqualTo(LocalDate.of(2024, 4, 30));
+        assertThat(RecurrenceRule.of(ETransactionFrequency.MONTH_END, null).next(LocalDate.of(2024, 2, 10)))
+                .isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(RecurrenceRule.of(ETransactionFrequency.MONTH_END, null).next(LocalDate.of(2024, 2, 29)))
+                .isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(RecurrenceRule.of(ETransactionFrequency.ONE_TIME, null).next(jan31)).isNull();
+    }
+
+    @Test
+    void weeklyByDay_ShouldVisitEachListedDayThenSkipInterval() {
+        RecurrenceRule rule = RecurrenceRule.of(ETransactionFrequency.CUSTOM, "RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+
+        // 2024-03-04 is a Monday
+        assertThat(rule.occurrences(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 31), 10)).containsExactly(
+                LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 18), LocalDate.of(2024, 3, 21));
+    }
+
+    @Test
+    void monthlyByMonthDay_ShouldSkipShortMonthsAndStopAtUntil() {
+        RecurrenceRule thirtyFirst = RecurrenceRule.of(ETransactionFrequency.CUSTOM, "FREQ=MONTHLY;BYMONTHDAY=31;UNTIL=20240630");
+        RecurrenceRule lastDay = RecurrenceRule.of(ETransactionFrequency.CUSTOM, "FREQ=MONTHLY;BYMONTHDAY=-1");
+
+        assertThat(thirtyFirst.occurrences(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 12, 31), 10)).containsExactly(
+                LocalDate.of(2024, 1, 31), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 5, 31));
+        assertThat(lastDay.next(LocalDate.of(2024, 1, 31))).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    void of_ShouldRejectUnsupportedRules() {
+        assertThatThrownBy(() -> RecurrenceRule.of(ETransactionFrequency.CUSTOM, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.of(ETransactionFrequency.CUSTOM, "FREQ=MONTHLY;COUNT=3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.of(ETransactionFrequency.CUSTOM, "FREQ=MONTHLY;BYDAY=1MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
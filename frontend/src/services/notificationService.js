@@ -1,5 +1,6 @@
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
+import AuthService from './auth.service';
 
 let client = null;
 
@@ -9,19 +10,23 @@ export const connectNotifications = (onMessage) => {
   const wsUrl = 'http://localhost:9090/ws';
   client = new Client({
     webSocketFactory: () => new SockJS(wsUrl),
+    // Authenticates the session so the server can deliver this user's own alerts (e.g. finished exports)
+    connectHeaders: AuthService.authHeader(),
     reconnectDelay: 5000,
     heartbeatIncoming: 4000,
     heartbeatOutgoing: 4000,
     onConnect: () => {
       console.log('WebSocket connected');
-      client.subscribe('/topic/alerts', (message) => {
+      const handle = (message) => {
         try {
           const data = JSON.parse(message.body);
           onMessage(data);
         } catch (e) {
           console.error('Failed to parse notification', e);
         }
-      });
+      };
+      client.subscribe('/topic/alerts', handle);
+      client.subscribe('/user/queue/alerts', handle);
     },
     onStompError: (frame) => {
       console.error('STOMP error:', frame);